@@ -0,0 +1,41 @@
+package com.example.linkcargo.global.jwt;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * JwtAuthorizationFilter.shouldNotFilter 경로 확인 비용 - 트라이 vs 이전 방식(접두사 리스트 stream 순회)
+ * -prof gc 로 실행하면 요청당 할당량도 비교 가능
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtExcludePathMatcherBenchmark {
+
+    @Param({"/api/v1/users/login", "/api/v1/chatrooms/1/chats", "/ws/chat/info"})
+    private String path;
+
+    private JwtExcludePathMatcher matcher;
+
+    @Setup
+    public void setUp() {
+        matcher = new JwtExcludePathMatcher(JwtExcludePathMatcher.DEFAULT_EXCLUDE_PATHS);
+    }
+
+    @Benchmark
+    public boolean trie() {
+        return matcher.matches(path);
+    }
+
+    @Benchmark
+    public boolean listStream() {
+        return JwtExcludePathMatcher.DEFAULT_EXCLUDE_PATHS.stream().anyMatch(path::startsWith);
+    }
+}
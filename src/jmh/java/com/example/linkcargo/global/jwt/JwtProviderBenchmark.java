@@ -0,0 +1,34 @@
+package com.example.linkcargo.global.jwt;
+
+import com.example.linkcargo.domain.user.Role;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 요청마다 실행되는 액세스 토큰 검증(서명 확인 + 클레임 매핑) 비용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtProviderBenchmark {
+
+    private JwtProvider jwtProvider;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        jwtProvider = new JwtProvider(new JwtKeyRing("", "", "", 691200));
+        accessToken = jwtProvider.generateAccessToken(1L, "user@linkcargo.com", Role.CONSIGNOR);
+    }
+
+    @Benchmark
+    public JwtClaims parseAccess() {
+        return jwtProvider.parseAccess(accessToken);
+    }
+}
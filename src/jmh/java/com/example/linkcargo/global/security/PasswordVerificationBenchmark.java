@@ -0,0 +1,57 @@
+package com.example.linkcargo.global.security;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * 로그인 비밀번호 검증 처리량 (초당 검증 수) - 로그인 CPU 비용의 대부분
+ * perCore: 스레드 1개 = 코어당 처리량, allCores: 코어 수만큼 스레드 = passwordVerificationExecutor 기본 크기의 상한
+ * bcrypt-strength 후보는 -p strength=10,11,12 로 비교
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class PasswordVerificationBenchmark {
+
+    private static final String RAW_PASSWORD = "linkcargo-password-1!";
+
+    @Param({"10", "12"})
+    private int strength;
+
+    private PasswordEncoder passwordEncoder;
+    private String encodedPassword;
+
+    @Setup
+    public void setUp() {
+        // SecurityConfig.passwordEncoder 와 같은 구성
+        DelegatingPasswordEncoder delegatingPasswordEncoder = new DelegatingPasswordEncoder(
+            "bcrypt", Map.of("bcrypt", new BCryptPasswordEncoder(strength)));
+        delegatingPasswordEncoder.setDefaultPasswordEncoderForMatches(new BCryptPasswordEncoder());
+        passwordEncoder = delegatingPasswordEncoder;
+        encodedPassword = passwordEncoder.encode(RAW_PASSWORD);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public boolean perCore() {
+        return passwordEncoder.matches(RAW_PASSWORD, encodedPassword);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public boolean allCores() {
+        return passwordEncoder.matches(RAW_PASSWORD, encodedPassword);
+    }
+}
@@ -0,0 +1,137 @@
+package com.example.linkcargo.domain.chat;
+
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.example.linkcargo.domain.chat.Entity.Attachment;
+import com.example.linkcargo.domain.chat.Entity.Chat;
+import com.example.linkcargo.domain.chat.dto.request.ChatFileConfirmRequest;
+import com.example.linkcargo.domain.chat.dto.request.ChatFileUploadUrlRequest;
+import com.example.linkcargo.domain.chat.dto.request.ChatRequest.MessageType;
+import com.example.linkcargo.domain.chat.dto.response.ChatContentResponse;
+import com.example.linkcargo.domain.chat.dto.response.ChatFileUploadUrlResponse;
+import com.example.linkcargo.domain.chat.repository.AttachmentRepository;
+import com.example.linkcargo.domain.user.UserS3Service;
+import com.example.linkcargo.domain.user.dto.response.FileResponse;
+import com.example.linkcargo.domain.user.dto.response.FilesResponse;
+import com.example.linkcargo.global.response.code.resultCode.ErrorStatus;
+import com.example.linkcargo.global.response.exception.handler.ChatHandler;
+import com.example.linkcargo.global.s3.dto.FileDTO;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * 채팅방 파일 직접 업로드 흐름
+ * 1. 서버가 presigned PUT URL 발급 -> 2. 클라이언트가 S3 에 직접 업로드 -> 3. confirm 시 첨부파일 저장 및 FILE 메시지 전송
+ * 파일 본문은 애플리케이션 서버를 거치지 않음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChatFileService {
+
+    private final ChatService chatService;
+    private final UserS3Service userS3Service;
+    private final AttachmentRepository attachmentRepository;
+    private final SimpMessagingTemplate messagingTemplate;
+
+    /**
+     * 업로드 URL 발급
+     */
+    public ChatFileUploadUrlResponse createUploadUrl(Long chatRoomId, Long userId,
+        ChatFileUploadUrlRequest request) {
+        validateMember(chatRoomId, userId);
+        return userS3Service.createChatFileUploadUrl(chatRoomId,
+            sanitizeFileName(request.fileName()), request.contentType());
+    }
+
+    /**
+     * 업로드 완료 확인 - 첨부파일/메시지 저장 후 채팅방 구독자에게 FILE 메시지 전송
+     */
+    public ChatContentResponse confirmUpload(Long chatRoomId, Long userId,
+        ChatFileConfirmRequest request) {
+        validateMember(chatRoomId, userId);
+        // 다른 채팅방에 발급된 키로 confirm 하는 경우 방지
+        if (!request.key().startsWith(chatRoomId + "/")) {
+            throw new ChatHandler(ErrorStatus.CHAT_FILE_NOT_FOUND);
+        }
+
+        // 같은 키로 재시도한 경우 메시지/첨부파일 중복 생성 방지
+        if (attachmentRepository.existsByFilePath(request.key())) {
+            throw new ChatHandler(ErrorStatus.CHAT_FILE_ALREADY_CONFIRMED);
+        }
+
+        ObjectMetadata metadata = userS3Service.getChatFileMetadata(request.key());
+        Chat savedChat;
+        try {
+            savedChat = chatService.saveFileChat(chatRoomId, userId, request.fileName(),
+                request.key(), metadata.getContentType());
+        } catch (DataIntegrityViolationException e) {
+            // 동시에 들어온 재시도 - file_path 유니크 제약
+            throw new ChatHandler(ErrorStatus.CHAT_FILE_ALREADY_CONFIRMED);
+        }
+        String fileUrl = userS3Service.getChatFileUrl(request.key());
+        // 채팅방 최근 메시지 시간 업데이트
+        chatService.updateChatRoomMessageUpdatedTime(chatRoomId);
+
+        ChatContentResponse chatContentResponse = new ChatContentResponse(savedChat.getId(),
+            chatRoomId, userId, MessageType.FILE, "", request.fileName(), fileUrl,
+            savedChat.getCreatedAt());
+        // 구독자들에게 메시지 송신
+        messagingTemplate.convertAndSend("/sub/chatroom/" + chatRoomId, chatContentResponse);
+        return chatContentResponse;
+    }
+
+    /**
+     * 서버 경유 업로드 - S3 로 스트리밍 후 첨부파일 인덱스에 기록
+     */
+    public FileResponse uploadFile(Long chatRoomId, Long userId, MultipartFile file) {
+        validateMember(chatRoomId, userId);
+        String fileName = sanitizeFileName(file.getOriginalFilename());
+        String key = userS3Service.uploadChatFile(chatRoomId, fileName, file);
+        Attachment attachment = chatService.saveAttachment(chatRoomId, key, fileName,
+            file.getContentType());
+        return new FileResponse(toFileDTO(attachment));
+    }
+
+    /**
+     * 채팅방 파일 목록 조회 - S3 나열 없이 첨부파일 인덱스에서 커서 기반으로 조회
+     */
+    public FilesResponse getFiles(Long chatRoomId, Long userId, Long cursor, int size) {
+        validateMember(chatRoomId, userId);
+        PageRequest pageRequest = PageRequest.of(0, size);
+        List<Attachment> attachments = (cursor == null)
+            ? attachmentRepository.findByChatRoomIdOrderByIdDesc(chatRoomId, pageRequest)
+            : attachmentRepository.findByChatRoomIdAndIdLessThanOrderByIdDesc(chatRoomId, cursor,
+                pageRequest);
+
+        List<FileDTO> files = attachments.stream()
+            .map(this::toFileDTO)
+            .toList();
+        Long nextCursor = attachments.size() < size ? null
+            : attachments.get(attachments.size() - 1).getId();
+        return new FilesResponse(files.size(), files, nextCursor);
+    }
+
+    private FileDTO toFileDTO(Attachment attachment) {
+        return new FileDTO(attachment.getFileName(),
+            userS3Service.getChatFileUrl(attachment.getFilePath()),
+            attachment.getCreatedAt().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+    }
+
+    private void validateMember(Long chatRoomId, Long userId) {
+        if (!chatService.isUserInChatRoom(userId, chatRoomId)) {
+            throw new ChatHandler(ErrorStatus.CHAT_ROOM_ACCESS_DENIED);
+        }
+    }
+
+    // 키 경로가 바뀌지 않도록 경로 구분자 제거
+    private String sanitizeFileName(String fileName) {
+        return fileName.substring(Math.max(fileName.lastIndexOf('/'), fileName.lastIndexOf('\\')) + 1);
+    }
+}
@@ -1,14 +1,18 @@
 package com.example.linkcargo.domain.chat;
 
 import com.example.linkcargo.domain.chat.Entity.ChatRoom;
+import com.example.linkcargo.domain.chat.dto.request.ChatFileConfirmRequest;
+import com.example.linkcargo.domain.chat.dto.request.ChatFileUploadUrlRequest;
 import com.example.linkcargo.domain.chat.dto.request.ChatRoomIdRequest;
 import com.example.linkcargo.domain.chat.dto.response.ChatRoomIdResponse;
 import com.example.linkcargo.domain.chat.dto.response.ChatContentResponse;
 import com.example.linkcargo.domain.chat.dto.response.ChatContentsResponse;
+import com.example.linkcargo.domain.chat.dto.response.ChatFileUploadUrlResponse;
 import com.example.linkcargo.domain.chat.dto.response.ChatRoomResponse;
 import com.example.linkcargo.domain.chat.dto.response.ChatRoomsResponse;
+import com.example.linkcargo.domain.chat.dto.response.PresenceResponse;
+import com.example.linkcargo.domain.chat.dto.response.PresencesResponse;
 import com.example.linkcargo.domain.user.dto.response.FilesResponse;
-import com.example.linkcargo.domain.user.UserS3Service;
 import com.example.linkcargo.domain.user.dto.response.FileResponse;
 import com.example.linkcargo.global.response.ApiResponse;
 import com.example.linkcargo.global.response.code.resultCode.SuccessStatus;
@@ -18,6 +22,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import java.util.List;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -37,7 +42,8 @@ import retrofit2.http.Path;
 public class ChatRestController {
 
     private final ChatService chatService;
-    private final UserS3Service userS3Service;
+    private final PresenceRegistry presenceRegistry;
+    private final ChatFileService chatFileService;
 
     @Operation(summary = "특정 상대와의 채팅방 조회/생성", description = "기존 채팅방이 있으면 해당 채팅방 ID를, 없으면 생성 후 ID 반환합니다.")
     @PostMapping("/rooms")
@@ -79,27 +85,66 @@ public class ChatRestController {
     @PostMapping("/{chatRoomId}/file")
     @ApiResponses({
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "COMMON200", description = "OK, 성공"),
-        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "CHAT401", description = "파일 업로드에 실패했습니다.")
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "CHAT401", description = "파일 업로드에 실패했습니다."),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "CHAT402", description = "채팅방에 참여하지 않은 사용자입니다.")
     })
     public ApiResponse<FileResponse> sendFileToChatRoom(
         @AuthenticationPrincipal CustomUserDetail userDetail,
         @PathVariable("chatRoomId") Long chatRoomId,
         @Valid @RequestParam("file") MultipartFile file
     ) {
-        FileResponse fileResponse = userS3Service.uploadFile(file, chatRoomId, userDetail.getId());
+        FileResponse fileResponse = chatFileService.uploadFile(chatRoomId, userDetail.getId(), file);
         return ApiResponse.onSuccess(fileResponse);
     }
 
-    @Operation(summary = "채팅방에 업로드 된 파일 목록 조회", description = "채팅방에 업로드된 파일 목록을 조회합니다.")
+    @Operation(summary = "채팅방 파일 업로드 URL 발급", description = "S3 에 파일을 직접 업로드할 presigned PUT URL 을 발급합니다. 업로드 후 confirm API 를 호출해야 합니다.")
+    @PostMapping("/{chatRoomId}/file/upload-url")
+    @ApiResponses({
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "COMMON200", description = "OK, 성공"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "CHAT402", description = "채팅방에 참여하지 않은 사용자입니다.")
+    })
+    public ApiResponse<ChatFileUploadUrlResponse> createFileUploadUrl(
+        @AuthenticationPrincipal CustomUserDetail userDetail,
+        @PathVariable("chatRoomId") Long chatRoomId,
+        @Valid @RequestBody ChatFileUploadUrlRequest chatFileUploadUrlRequest
+    ) {
+        ChatFileUploadUrlResponse response = chatFileService.createUploadUrl(chatRoomId,
+            userDetail.getId(), chatFileUploadUrlRequest);
+        return ApiResponse.onSuccess(response);
+    }
+
+    @Operation(summary = "채팅방 파일 업로드 완료", description = "S3 직접 업로드 완료 후 호출합니다. 첨부파일을 저장하고 채팅방에 FILE 메시지를 전송합니다.")
+    @PostMapping("/{chatRoomId}/file/confirm")
+    @ApiResponses({
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "COMMON200", description = "OK, 성공"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "CHAT402", description = "채팅방에 참여하지 않은 사용자입니다."),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "CHAT403", description = "업로드된 파일이 존재하지 않습니다."),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "CHAT404", description = "이미 등록된 파일입니다.")
+    })
+    public ApiResponse<ChatContentResponse> confirmFileUpload(
+        @AuthenticationPrincipal CustomUserDetail userDetail,
+        @PathVariable("chatRoomId") Long chatRoomId,
+        @Valid @RequestBody ChatFileConfirmRequest chatFileConfirmRequest
+    ) {
+        ChatContentResponse response = chatFileService.confirmUpload(chatRoomId,
+            userDetail.getId(), chatFileConfirmRequest);
+        return ApiResponse.onSuccess(response);
+    }
+
+    @Operation(summary = "채팅방에 업로드 된 파일 목록 조회", description = "채팅방에 업로드된 파일 목록을 최신순으로 조회합니다. 다음 페이지는 응답의 nextCursor 를 cursor 로 전달합니다.")
     @GetMapping("/{chatRoomId}/file")
     @ApiResponses({
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "COMMON200", description = "OK, 성공"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "CHAT402", description = "채팅방에 참여하지 않은 사용자입니다.")
     })
     public ApiResponse<FilesResponse> getAllFilesInChatRoom(
         @AuthenticationPrincipal CustomUserDetail userDetail,
-        @PathVariable("chatRoomId") Long chatRoomId
+        @PathVariable("chatRoomId") Long chatRoomId,
+        @RequestParam(value = "cursor", required = false) Long cursor,
+        @RequestParam(value = "size", defaultValue = "20") int size
     ) {
-        FilesResponse filesResponse = userS3Service.getAllObjectsInChatRoom(chatRoomId);
+        FilesResponse filesResponse = chatFileService.getFiles(chatRoomId, userDetail.getId(),
+            cursor, Math.min(Math.max(size, 1), 100));
         return ApiResponse.onSuccess(filesResponse);
     }
 
@@ -130,4 +175,24 @@ public class ChatRestController {
         return ApiResponse.onSuccess(SuccessStatus._OK);
     }
 
+    @Operation(summary = "유저 접속 상태 조회", description = "주어진 유저들 중 같은 채팅방에 참여 중인 유저의 채팅 접속 여부와 마지막 활동 시각을 조회합니다.")
+    @GetMapping("/presence")
+    @ApiResponses({
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "COMMON200", description = "OK, 성공"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "CHAT405", description = "조회할 유저 수 초과"),
+    })
+    public ApiResponse<PresencesResponse> getPresences(
+        @AuthenticationPrincipal CustomUserDetail userDetail,
+        @RequestParam("userIds") List<Long> userIds
+    ) {
+        Set<Long> partnerIds = chatService.getChatPartnerIds(userDetail.getId(), userIds);
+        List<PresenceResponse> presences = userIds.stream()
+            .filter(partnerIds::contains)
+            .distinct()
+            .map(id -> new PresenceResponse(id, presenceRegistry.isOnline(id),
+                presenceRegistry.getLastSeen(id)))
+            .toList();
+        return ApiResponse.onSuccess(new PresencesResponse(presences));
+    }
+
 }
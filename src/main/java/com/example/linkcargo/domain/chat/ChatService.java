@@ -1,25 +1,34 @@
 package com.example.linkcargo.domain.chat;
 
+import com.example.linkcargo.domain.chat.Entity.Attachment;
 import com.example.linkcargo.domain.chat.Entity.Chat;
 import com.example.linkcargo.domain.chat.Entity.ChatRoom;
 import com.example.linkcargo.domain.chat.Entity.Membership;
 import com.example.linkcargo.domain.chat.Entity.RoomStatus;
+import com.example.linkcargo.domain.chat.dto.request.ChatRequest.MessageType;
 import com.example.linkcargo.domain.chat.dto.request.ChatRoomIdRequest;
 import com.example.linkcargo.domain.chat.dto.response.ChatContentResponse;
 import com.example.linkcargo.domain.chat.dto.response.ChatRoomResponse;
+import com.example.linkcargo.domain.chat.repository.AttachmentRepository;
 import com.example.linkcargo.domain.chat.repository.ChatRepository;
 import com.example.linkcargo.domain.chat.repository.ChatRoomRepository;
 import com.example.linkcargo.domain.chat.repository.MemberShipRepository;
 import com.example.linkcargo.domain.user.User;
 import com.example.linkcargo.domain.user.UserRepository;
+import com.example.linkcargo.domain.user.UserS3Service;
 import com.example.linkcargo.global.response.code.resultCode.ErrorStatus;
+import com.example.linkcargo.global.response.exception.handler.ChatHandler;
 import com.example.linkcargo.global.response.exception.handler.UsersHandler;
-import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -32,37 +41,50 @@ public class ChatService {
     private final ChatRoomRepository chatRoomRepository;
     private final MemberShipRepository memberShipRepository;
     private final UserRepository userRepository;
+    private final AttachmentRepository attachmentRepository;
+    private final UserS3Service userS3Service;
+
+    @Value("${chat.presence.max-user-ids:100}")
+    private int maxPresenceUserIds; // 접속 상태 한 번에 조회할 수 있는 유저 수
 
     /**
      * 채팅방 생성 또는 조회
+     * pair_key upsert 후 잠금 조회 - 양쪽이 동시에 요청해도 채팅방/멤버십이 중복 생성되지 않음
      */
     @Transactional
     public ChatRoom createOrGetChatRoom(Long userId, ChatRoomIdRequest chatRoomIdRequest) {
-        Optional<ChatRoom> chatRoom = chatRoomRepository.findByUserIdAndTargetUserId(userId,
-            chatRoomIdRequest.targetUserId());
-
-        // 채팅방이 존재하는 경우
-        if (chatRoom.isPresent()) {
-            // 해당 채팅방의 스케줄 업데이트(동일할 수도 있고 다른 스케줄일 수도 있음)
-            chatRoom.get().setSchedule(chatRoomIdRequest.schedule());
-            return chatRoom.get(); // 채팅방 반환
-        }
+        Long targetUserId = chatRoomIdRequest.targetUserId();
+        String pairKey = ChatRoom.pairKeyOf(userId, targetUserId);
+
+        // 채팅방이 없으면 생성, 있으면 스케줄만 업데이트(동일할 수도 있고 다른 스케줄일 수도 있음)
+        chatRoomRepository.upsertByPairKey(
+            pairKey,
+            "Chat Room between " + userId + " and " + targetUserId,
+            chatRoomIdRequest.schedule(), // 화주가 문의한 스케줄 정보 저장 -> 해당 채팅방 입장 시 보이게됨
+            RoomStatus.ENABLED.name()
+        );
+        ChatRoom chatRoom = chatRoomRepository.findByPairKey(pairKey)
+            .orElseThrow(() -> new RuntimeException("채팅방을 찾을 수 없습니다."));
 
-        // 채팅방이 존재하지 않는 경우 -> 새로 생성
-        ChatRoom newChatRoom = new ChatRoom();
-        newChatRoom.setTitle("Chat Room between " + userId + " and " + chatRoomIdRequest.targetUserId()); // 제목 설정
-        newChatRoom.setSchedule(chatRoomIdRequest.schedule()); // 화주가 문의한 스케줄 정보 저장 -> 해당 채팅방 입장 시 보이게됨
-        newChatRoom.setStatus(RoomStatus.ENABLED); // 기본 상태 설정
-        newChatRoom.setMessageUpdatedAt(LocalDateTime.now()); // 가장 최근 메시지 도착 시간을 현재 시간으로 설정
-        ChatRoom savedChatRoom = chatRoomRepository.save(newChatRoom);
-        if (!isUserInChatRoom(userId, savedChatRoom.getId())) {
-            addUserToChatRoom(userId, savedChatRoom.getId());
+        if (!isUserInChatRoom(userId, chatRoom.getId())) {
+            addUserToChatRoom(userId, chatRoom.getId());
         }
-        if (!isUserInChatRoom(chatRoomIdRequest.targetUserId(), savedChatRoom.getId())) {
-            addUserToChatRoom(chatRoomIdRequest.targetUserId(), savedChatRoom.getId());
+        if (!isUserInChatRoom(targetUserId, chatRoom.getId())) {
+            addUserToChatRoom(targetUserId, chatRoom.getId());
+        }
+        return chatRoom;
+    }
+
+    /**
+     * 기존 1:1 채팅방의 pair_key 채우기 - 애플리케이션 시작 시 1회
+     */
+    @Transactional
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillChatRoomPairKeys() {
+        int updated = chatRoomRepository.backfillPairKeys();
+        if (updated > 0) {
+            log.info("채팅방 pair_key 채우기 완료: {}건", updated);
         }
-        // 저장 후 반환
-        return savedChatRoom;
     }
 
     /**
@@ -78,7 +100,7 @@ public class ChatService {
                 chat.getMessageType(),
                 chat.getContent(),
                 chat.getFileName(),
-                chat.getFileUrl(),
+                userS3Service.resolveChatFileUrl(chat.getFileUrl()), // 저장된 S3 키 -> 조회 시점 URL
                 chat.getCreatedAt()
             )
         ).toList();
@@ -142,6 +164,48 @@ public class ChatService {
         return chatRepository.save(chat);
     }
 
+    /**
+     * 파일 메시지 및 첨부파일 저장 - 메시지의 fileUrl 에도 만료되는 URL 대신 S3 키 저장
+     */
+    @Transactional
+    public Chat saveFileChat(Long chatRoomId, Long userId, String fileName, String filePath,
+        String fileType) {
+        ChatRoom chatRoom = getChatRoom(chatRoomId);
+        Chat chat = chatRepository.save(Chat.builder()
+            .chatRoom(chatRoom)
+            .sender(userRepository.findById(userId)
+                .orElseThrow(() -> new UsersHandler(ErrorStatus.USER_NOT_FOUND)))
+            .messageType(MessageType.FILE)
+            .content("")
+            .fileName(fileName)
+            .fileUrl(filePath)
+            .isRead(false)
+            .build());
+
+        attachmentRepository.save(Attachment.builder()
+            .chatRoom(chatRoom)
+            .chat(chat)
+            .fileType(fileType)
+            .filePath(filePath)
+            .fileName(fileName)
+            .build());
+        return chat;
+    }
+
+    /**
+     * 첨부파일 저장 (메시지 없이 업로드만 된 경우) - chat_id 는 NULL, 채팅방 파일 목록에는 포함
+     */
+    @Transactional
+    public Attachment saveAttachment(Long chatRoomId, String filePath, String fileName,
+        String fileType) {
+        return attachmentRepository.save(Attachment.builder()
+            .chatRoom(getChatRoom(chatRoomId))
+            .fileType(fileType)
+            .filePath(filePath)
+            .fileName(fileName)
+            .build());
+    }
+
     /**
      * 유저 채팅방 입장
      */
@@ -153,6 +217,20 @@ public class ChatService {
         return memberShipRepository.save(new Membership(user, chatRoom));
     }
 
+    /**
+     * userIds 중 요청한 유저와 채팅방을 함께 쓰는 유저 - 접속 상태는 대화 상대에게만 공개
+     */
+    @Transactional(readOnly = true)
+    public Set<Long> getChatPartnerIds(Long userId, List<Long> userIds) {
+        if (userIds.size() > maxPresenceUserIds) {
+            throw new ChatHandler(ErrorStatus.CHAT_PRESENCE_TOO_MANY_USERS);
+        }
+        if (userIds.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(memberShipRepository.findChatPartnerIdsIn(userId, userIds));
+    }
+
     /**
      * 유저가 채팅방에 이미 존재하는지 확인
      */
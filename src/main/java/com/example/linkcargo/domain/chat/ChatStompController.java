@@ -3,7 +3,9 @@ package com.example.linkcargo.domain.chat;
 import com.example.linkcargo.domain.chat.Entity.Chat;
 import com.example.linkcargo.domain.chat.dto.request.ChatRequest.MessageType;
 import com.example.linkcargo.domain.chat.dto.request.ChatRequest;
+import com.example.linkcargo.domain.chat.dto.request.TypingRequest;
 import com.example.linkcargo.domain.chat.dto.response.ChatContentResponse;
+import com.example.linkcargo.domain.chat.dto.response.TypingResponse;
 import com.example.linkcargo.domain.user.UserService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.Message;
@@ -22,11 +24,14 @@ public class ChatStompController {
     private final ChatService chatService;
     private final UserService userService;
     private final SimpMessagingTemplate messagingTemplate;
+    private final PresenceRegistry presenceRegistry;
 
-    public ChatStompController(ChatService chatService, UserService userService, SimpMessagingTemplate messagingTemplate) {
+    public ChatStompController(ChatService chatService, UserService userService, SimpMessagingTemplate messagingTemplate,
+        PresenceRegistry presenceRegistry) {
         this.chatService = chatService;
         this.userService = userService;
         this.messagingTemplate = messagingTemplate;
+        this.presenceRegistry = presenceRegistry;
     }
 
     @MessageMapping("/chat")
@@ -34,8 +39,9 @@ public class ChatStompController {
         StompHeaderAccessor accessor = StompHeaderAccessor.wrap(message);
 
         Long chatRoomId = chatRequest.chatRoomId();
-        Long userId = (Long) accessor.getSessionAttributes().get("userId");
+        Long userId = (Long) accessor.getSessionAttributes().get(JwtChannelInterceptor.USER_ID_ATTRIBUTE);
         String sessionId = accessor.getSessionId();
+        presenceRegistry.touch(userId, sessionId);
 
         // 채팅 "일반" 전송 메시지를 보낸 경우 (프론트엔드가 먼저 "/sub/chatroom/{id}" 를 구독한 상태)
         if (chatRequest.messageType().equals(ChatRequest.MessageType.CHAT)) {
@@ -61,6 +67,26 @@ public class ChatStompController {
 
     }
 
+    /**
+     * 입력 중 표시 - 저장하지 않고 "/sub/chatroom/{id}/typing" 구독자에게 바로 전달
+     * 채팅방 참여자가 아니면 전달하지 않음
+     */
+    @MessageMapping("/chat/typing")
+    public void handleTyping(Message<?> message, TypingRequest typingRequest) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(message);
+        Long userId = (Long) accessor.getSessionAttributes().get(JwtChannelInterceptor.USER_ID_ATTRIBUTE);
+        presenceRegistry.touch(userId, accessor.getSessionId());
+
+        if (!chatService.isUserInChatRoom(userId, typingRequest.chatRoomId())) {
+            log.warn("채팅방에 참여하지 않은 유저의 입력 중 표시 무시 - userId: {}, chatRoomId: {}",
+                userId, typingRequest.chatRoomId());
+            return;
+        }
+
+        messagingTemplate.convertAndSend("/sub/chatroom/" + typingRequest.chatRoomId() + "/typing",
+            new TypingResponse(typingRequest.chatRoomId(), userId, typingRequest.typing()));
+    }
+
     /**
      * CHAT 타입 메시지 전송 시
      */
@@ -1,14 +1,17 @@
 package com.example.linkcargo.domain.chat.Entity;
 
+import com.example.linkcargo.global.entity.JpaBaseEntity;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -21,22 +24,31 @@ import lombok.Setter;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "attachments")
-public class Attachment {
+@Table(name = "attachments", indexes = {
+    @Index(name = "idx_attachments_chat_room_id_id", columnList = "chat_room_id, id") // 채팅방 파일 목록 커서 페이징
+}, uniqueConstraints = {
+    @UniqueConstraint(name = "uk_attachments_file_path", columnNames = "file_path") // 같은 객체 중복 등록 방지
+})
+public class Attachment extends JpaBaseEntity {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "chat_id", nullable = false)
+    // 기존 행은 db/migration/V20261019_1 스크립트로 채운 뒤 배포
+    @JoinColumn(name = "chat_room_id", nullable = false)
+    private ChatRoom chatRoom;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "chat_id") // FILE 메시지와 함께 저장된 경우에만 존재 (db/migration/V20261019_2)
     private Chat chat;
 
-    @Column(name = "file_type", nullable = false)
+    @Column(name = "file_type")
     private String fileType;
 
     @Column(name = "file_path", nullable = false)
-    private String filePath;
+    private String filePath; // S3 객체 키
 
     @Column(name = "file_name", nullable = false)
     private String fileName;
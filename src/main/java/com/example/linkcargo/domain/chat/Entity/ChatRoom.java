@@ -11,6 +11,7 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -26,13 +27,18 @@ import lombok.Setter;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "chat_rooms")
+@Table(name = "chat_rooms", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_chat_rooms_pair_key", columnNames = "pair_key")
+})
 public class ChatRoom extends JpaBaseEntity {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    @Column(name = "pair_key", length = 41)
+    private String pairKey; // 두 참여자 ID 를 정규화한 키 "작은 ID:큰 ID" - 1:1 채팅방 조회용
+
     @Column(nullable = false)
     private String title;
     
@@ -55,6 +61,11 @@ public class ChatRoom extends JpaBaseEntity {
         this.status = roomStatus;
     }
 
+    // 참여자 순서와 무관한 1:1 채팅방 키 생성
+    public static String pairKeyOf(Long userId, Long targetUserId) {
+        return Math.min(userId, targetUserId) + ":" + Math.max(userId, targetUserId);
+    }
+
     // 가장 최근 메시지 도착 시간 업데이트
     public void updateMessageUpdatedAt() {
         this.messageUpdatedAt = LocalDateTime.now();
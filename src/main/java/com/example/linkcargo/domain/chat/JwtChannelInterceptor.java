@@ -1,21 +1,19 @@
 package com.example.linkcargo.domain.chat;
 
-import com.example.linkcargo.domain.user.User;
-import com.example.linkcargo.domain.user.UserRepository;
+import com.example.linkcargo.global.jwt.JwtClaims;
 import com.example.linkcargo.global.jwt.JwtProvider;
-import com.example.linkcargo.global.response.code.resultCode.ErrorStatus;
-import com.example.linkcargo.global.response.exception.handler.UsersHandler;
-import com.example.linkcargo.global.security.CustomUserDetail;
 import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
 import org.springframework.messaging.simp.stomp.StompCommand;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.messaging.support.ChannelInterceptor;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.messaging.support.MessageHeaderAccessor;
 import org.springframework.stereotype.Component;
 
 @Slf4j
@@ -23,38 +21,80 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class JwtChannelInterceptor implements ChannelInterceptor {
 
+    public static final String USER_ID_ATTRIBUTE = "userId";
+    public static final String PRINCIPAL_ATTRIBUTE = "principal";
+    private static final String RATE_LIMITER_ATTRIBUTE = "sendRateLimiter";
+
     private final JwtProvider jwtProvider;
-    private final UserRepository userRepository;
+
+    // 세션별 SEND 프레임 허용량 (초당 토큰 수, 최대 버스트)
+    @Value("${chat.stomp.send-rate.permits-per-second:10}")
+    private double sendPermitsPerSecond;
+
+    @Value("${chat.stomp.send-rate.burst:20}")
+    private int sendBurst;
 
     @Override
     public Message<?> preSend(Message<?> message, MessageChannel channel) {
-        log.info("connection request, interceptor,  preSend method!");
-        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(message);
-        log.info("sessionId: {}", accessor.getSessionId());
-
-        // 연결 요청 시 JWT 검증
-        if (StompCommand.CONNECT.equals(accessor.getCommand())) {
-            // Authorization 헤더 추출
-            List<String> authorization = accessor.getNativeHeader("Authorization");
-            log.info("authorization: {}", authorization.get(0));
-            if (authorization != null && !authorization.isEmpty()) {
-                String jwt = authorization.get(0).substring(7);
-                // JWT 검증
-                Long userId = jwtProvider.getIdFromAccess(jwt);
-                // 사용자 정보 조회
-                User user = userRepository.findById(userId).orElseThrow(() -> new UsersHandler(
-                    ErrorStatus.USER_NOT_FOUND));
-                // 사용자 인증 정보 설정
-                CustomUserDetail customUserDetail = new CustomUserDetail(user);
-                UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
-                    customUserDetail, null, customUserDetail.getAuthorities()
-                );
-                SecurityContextHolder.getContext().setAuthentication(authentication);
-                accessor.getSessionAttributes().put("userId", customUserDetail.getId()); // 웹소켓 세션에 유저 정보 저장 - 웹소켓 세션 유지되는 동안 계속 조회 가능
-            } else{
-                log.error("Authorization header is not found");
-                return null; // 헤더가 없을 경우 메시지 중단
-            }
+        // 헤더 래핑 없이 커맨드만 확인 - CONNECT/SEND 외 프레임은 추가 비용 없이 통과
+        StompCommand command = (StompCommand) message.getHeaders()
+            .get(StompHeaderAccessor.COMMAND_HEADER);
+
+        if (StompCommand.CONNECT.equals(command)) {
+            return authenticate(message);
+        }
+        if (StompCommand.SEND.equals(command)) {
+            return throttle(message);
+        }
+        return message;
+    }
+
+    /**
+     * 연결 요청 시 JWT 검증 후 세션 Principal 설정 (세션당 1회)
+     */
+    private Message<?> authenticate(Message<?> message) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message,
+            StompHeaderAccessor.class);
+
+        // Authorization 헤더 추출
+        List<String> authorization = accessor.getNativeHeader("Authorization");
+        if (authorization == null || authorization.isEmpty()) {
+            log.warn("Authorization header is not found, sessionId: {}", accessor.getSessionId());
+            return null; // 헤더가 없을 경우 메시지 중단
+        }
+
+        // JWT 검증 - 서명된 클레임만으로 Principal 생성 (DB 조회 X)
+        String jwt = authorization.get(0).substring(7);
+        JwtClaims claims = jwtProvider.parseAccess(jwt);
+        StompPrincipal principal = new StompPrincipal(claims.userId(), claims.email());
+
+        // 웹소켓 세션에 유저 정보 저장 - 웹소켓 세션 유지되는 동안 계속 조회 가능
+        accessor.setUser(principal);
+        Map<String, Object> sessionAttributes = accessor.getSessionAttributes();
+        sessionAttributes.put(USER_ID_ATTRIBUTE, principal.id());
+        sessionAttributes.put(PRINCIPAL_ATTRIBUTE, principal);
+        sessionAttributes.put(RATE_LIMITER_ATTRIBUTE,
+            new SendRateLimiter(sendPermitsPerSecond, sendBurst));
+        log.debug("STOMP session authenticated, sessionId: {}, userId: {}",
+            accessor.getSessionId(), principal.id());
+        return message;
+    }
+
+    /**
+     * 세션별 SEND 프레임 속도 제한 - 초과 시 프레임 폐기
+     */
+    private Message<?> throttle(Message<?> message) {
+        Map<String, Object> sessionAttributes = SimpMessageHeaderAccessor.getSessionAttributes(
+            message.getHeaders());
+        if (sessionAttributes == null) {
+            return message;
+        }
+        SendRateLimiter rateLimiter = (SendRateLimiter) sessionAttributes.get(
+            RATE_LIMITER_ATTRIBUTE);
+        if (rateLimiter != null && !rateLimiter.tryAcquire()) {
+            log.warn("STOMP SEND rate limit exceeded, userId: {}",
+                sessionAttributes.get(USER_ID_ATTRIBUTE));
+            return null;
         }
         return message;
     }
@@ -0,0 +1,70 @@
+package com.example.linkcargo.domain.chat;
+
+import com.example.linkcargo.domain.chat.dto.response.PresenceResponse;
+import java.security.Principal;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.AbstractSubProtocolEvent;
+import org.springframework.web.socket.messaging.SessionConnectedEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+
+/**
+ * STOMP 세션 이벤트로 접속 상태를 갱신하고, 상태 변경 시 "/sub/presence/{userId}" 로 알림
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PresenceEventListener {
+
+    private final PresenceRegistry presenceRegistry;
+    private final SimpMessagingTemplate messagingTemplate;
+
+    @EventListener
+    public void handleConnected(SessionConnectedEvent event) {
+        Long userId = getUserId(event);
+        if (userId == null) {
+            return;
+        }
+        if (presenceRegistry.register(userId, getSessionId(event))) {
+            broadcast(userId, true);
+        }
+    }
+
+    @EventListener
+    public void handleSubscribe(SessionSubscribeEvent event) {
+        Long userId = getUserId(event);
+        if (userId != null) {
+            presenceRegistry.touch(userId, getSessionId(event));
+        }
+    }
+
+    @EventListener
+    public void handleDisconnect(SessionDisconnectEvent event) {
+        Long userId = getUserId(event);
+        if (userId == null) {
+            return;
+        }
+        if (presenceRegistry.unregister(userId, event.getSessionId())) {
+            broadcast(userId, false);
+        }
+    }
+
+    private void broadcast(Long userId, boolean online) {
+        messagingTemplate.convertAndSend("/sub/presence/" + userId,
+            new PresenceResponse(userId, online, presenceRegistry.getLastSeen(userId)));
+    }
+
+    private Long getUserId(AbstractSubProtocolEvent event) {
+        Principal user = event.getUser();
+        return (user instanceof StompPrincipal principal) ? principal.id() : null;
+    }
+
+    private String getSessionId(AbstractSubProtocolEvent event) {
+        return SimpMessageHeaderAccessor.getSessionId(event.getMessage().getHeaders());
+    }
+}
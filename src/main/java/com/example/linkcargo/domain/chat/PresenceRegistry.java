@@ -0,0 +1,78 @@
+package com.example.linkcargo.domain.chat;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.stereotype.Component;
+
+/**
+ * 접속 중인 유저의 STOMP 세션 목록 (인메모리)
+ * userId -> (sessionId -> 마지막 활동 시각 epoch millis)
+ */
+@Component
+public class PresenceRegistry {
+
+    private final Map<Long, Map<String, Long>> sessionsByUser = new ConcurrentHashMap<>();
+
+    /**
+     * 세션 등록 - 유저의 첫 세션이면 true (오프라인 -> 온라인)
+     */
+    public boolean register(Long userId, String sessionId) {
+        boolean[] firstSession = {false};
+        sessionsByUser.compute(userId, (id, sessions) -> {
+            if (sessions == null) {
+                sessions = new ConcurrentHashMap<>();
+            }
+            firstSession[0] = sessions.isEmpty();
+            sessions.put(sessionId, System.currentTimeMillis());
+            return sessions;
+        });
+        return firstSession[0];
+    }
+
+    /**
+     * 세션 활동 시각 갱신 (SUBSCRIBE, 메시지 전송 등)
+     */
+    public void touch(Long userId, String sessionId) {
+        Map<String, Long> sessions = sessionsByUser.get(userId);
+        if (sessions != null) {
+            sessions.computeIfPresent(sessionId, (id, lastSeen) -> System.currentTimeMillis());
+        }
+    }
+
+    /**
+     * 세션 해제 - 유저의 마지막 세션이면 true (온라인 -> 오프라인)
+     */
+    public boolean unregister(Long userId, String sessionId) {
+        boolean[] lastSession = {false};
+        sessionsByUser.computeIfPresent(userId, (id, sessions) -> {
+            sessions.remove(sessionId);
+            lastSession[0] = sessions.isEmpty();
+            return sessions.isEmpty() ? null : sessions;
+        });
+        return lastSession[0];
+    }
+
+    public boolean isOnline(Long userId) {
+        return sessionsByUser.containsKey(userId);
+    }
+
+    /**
+     * 유저의 가장 최근 활동 시각 (오프라인이면 null)
+     */
+    public Long getLastSeen(Long userId) {
+        Map<String, Long> sessions = sessionsByUser.get(userId);
+        if (sessions == null) {
+            return null;
+        }
+        return sessions.values().stream().max(Long::compare).orElse(null);
+    }
+
+    /**
+     * 주어진 유저 중 접속 중인 유저 ID 목록
+     */
+    public List<Long> filterOnline(Collection<Long> userIds) {
+        return userIds.stream().filter(this::isOnline).toList();
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.linkcargo.domain.chat;
+
+/**
+ * STOMP 세션별 SEND 프레임 토큰 버킷
+ * 세션 속성에 저장되어 해당 세션의 프레임만 처리하므로 세션 간 경합 없음
+ */
+public class SendRateLimiter {
+
+    private final double permitsPerNano;
+    private final double capacity;
+    private double tokens;
+    private long lastRefillNanos;
+
+    public SendRateLimiter(double permitsPerSecond, int burst) {
+        this.permitsPerNano = permitsPerSecond / 1_000_000_000d;
+        this.capacity = burst;
+        this.tokens = burst;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    /**
+     * 토큰 1개 소비 시도 - 남은 토큰이 없으면 false
+     */
+    public synchronized boolean tryAcquire() {
+        long now = System.nanoTime();
+        tokens = Math.min(capacity, tokens + (now - lastRefillNanos) * permitsPerNano);
+        lastRefillNanos = now;
+        if (tokens < 1) {
+            return false;
+        }
+        tokens -= 1;
+        return true;
+    }
+}
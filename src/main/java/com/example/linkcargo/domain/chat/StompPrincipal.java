@@ -0,0 +1,18 @@
+package com.example.linkcargo.domain.chat;
+
+import java.security.Principal;
+
+/**
+ * STOMP 세션 단위 인증 정보 - CONNECT 시 한 번만 생성되어 세션 Principal 로 사용됨
+ * getName() 은 유저 ID 를 반환하므로 "/user/{id}/..." 목적지로 전송 가능
+ */
+public record StompPrincipal(
+    Long id,
+    String email
+) implements Principal {
+
+    @Override
+    public String getName() {
+        return String.valueOf(id);
+    }
+}
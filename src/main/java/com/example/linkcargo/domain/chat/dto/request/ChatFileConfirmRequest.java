@@ -0,0 +1,12 @@
+package com.example.linkcargo.domain.chat.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+
+public record ChatFileConfirmRequest(
+    @NotBlank
+    String key, // 업로드 URL 발급 시 받은 S3 객체 키
+    @NotBlank
+    String fileName // 원본 파일 이름
+) {
+
+}
@@ -0,0 +1,11 @@
+package com.example.linkcargo.domain.chat.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+
+public record ChatFileUploadUrlRequest(
+    @NotBlank
+    String fileName, // 원본 파일 이름
+    String contentType // 업로드 시 클라이언트가 보낼 Content-Type
+) {
+
+}
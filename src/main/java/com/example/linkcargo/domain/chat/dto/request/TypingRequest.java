@@ -0,0 +1,8 @@
+package com.example.linkcargo.domain.chat.dto.request;
+
+public record TypingRequest(
+    Long chatRoomId, // 채팅방 ID
+    boolean typing // 입력 중 여부
+) {
+
+}
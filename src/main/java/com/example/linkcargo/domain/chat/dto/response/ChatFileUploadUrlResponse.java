@@ -0,0 +1,11 @@
+package com.example.linkcargo.domain.chat.dto.response;
+
+import java.time.LocalDateTime;
+
+public record ChatFileUploadUrlResponse(
+    String key, // S3 객체 키 - 업로드 완료 후 confirm 요청에 사용
+    String uploadUrl, // PUT 요청으로 파일을 직접 업로드할 presigned URL
+    LocalDateTime expiredAt // 업로드 URL 만료 시각
+) {
+
+}
@@ -0,0 +1,9 @@
+package com.example.linkcargo.domain.chat.dto.response;
+
+public record PresenceResponse(
+    Long userId,
+    boolean online,
+    Long lastSeenAt // 마지막 활동 시각 (epoch millis, 오프라인이면 null)
+) {
+
+}
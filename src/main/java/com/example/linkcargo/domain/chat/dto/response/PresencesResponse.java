@@ -0,0 +1,9 @@
+package com.example.linkcargo.domain.chat.dto.response;
+
+import java.util.List;
+
+public record PresencesResponse(
+    List<PresenceResponse> presences
+) {
+
+}
@@ -0,0 +1,9 @@
+package com.example.linkcargo.domain.chat.dto.response;
+
+public record TypingResponse(
+    Long chatRoomId,
+    Long userId,
+    boolean typing
+) {
+
+}
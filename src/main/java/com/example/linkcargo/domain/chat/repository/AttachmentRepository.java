@@ -0,0 +1,22 @@
+package com.example.linkcargo.domain.chat.repository;
+
+import com.example.linkcargo.domain.chat.Entity.Attachment;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface AttachmentRepository extends JpaRepository<Attachment, Long> {
+
+    /**
+     * 채팅방 파일 목록 첫 페이지 - 최신순
+     */
+    List<Attachment> findByChatRoomIdOrderByIdDesc(Long chatRoomId, Pageable pageable);
+
+    /**
+     * 채팅방 파일 목록 다음 페이지 - cursor(마지막으로 받은 ID) 이전 항목
+     */
+    List<Attachment> findByChatRoomIdAndIdLessThanOrderByIdDesc(Long chatRoomId, Long cursor,
+        Pageable pageable);
+
+    boolean existsByFilePath(String filePath);
+}
@@ -1,24 +1,50 @@
 package com.example.linkcargo.domain.chat.repository;
 
 import com.example.linkcargo.domain.chat.Entity.ChatRoom;
+import jakarta.persistence.LockModeType;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long> {
 
     /**
-     * 특정 유저와 대상 유저 간의 채팅방을 찾는 쿼리
+     * 1:1 채팅방 생성 또는 스케줄 갱신 - pair_key 유니크 인덱스 기반 upsert
+     * 양쪽이 동시에 요청해도 채팅방은 하나만 생성됨
      */
-    @Query("SELECT cr FROM ChatRoom cr " +
-           "JOIN cr.memberships m1 " +
-           "JOIN cr.memberships m2 " +
-           "WHERE m1.user.id = :userId AND m2.user.id = :targetUserId")
-    Optional<ChatRoom> findByUserIdAndTargetUserId(
-        @Param("userId") Long userId,
-        @Param("targetUserId") Long targetUserId);
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "INSERT INTO chat_rooms (pair_key, title, schedule, status, message_updated_at, created_at, updated_at) " +
+                   "VALUES (:pairKey, :title, :schedule, :status, NOW(6), NOW(6), NOW(6)) " +
+                   "ON DUPLICATE KEY UPDATE schedule = VALUES(schedule), updated_at = NOW(6)",
+           nativeQuery = true)
+    int upsertByPairKey(
+        @Param("pairKey") String pairKey,
+        @Param("title") String title,
+        @Param("schedule") String schedule,
+        @Param("status") String status);
+
+    /**
+     * pair_key 로 채팅방 조회 - 멤버십 추가가 끝날 때까지 행 잠금
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<ChatRoom> findByPairKey(String pairKey);
+
+    /**
+     * pair_key 가 없는 기존 1:1 채팅방에 키 채우기 (중복 채팅방은 건너뜀)
+     */
+    @Modifying
+    @Query(value = "UPDATE IGNORE chat_rooms cr " +
+                   "JOIN (SELECT chat_room_id, CONCAT(MIN(user_id), ':', MAX(user_id)) AS pair_key " +
+                   "      FROM memberships GROUP BY chat_room_id HAVING COUNT(DISTINCT user_id) = 2) m " +
+                   "ON m.chat_room_id = cr.id " +
+                   "SET cr.pair_key = m.pair_key " +
+                   "WHERE cr.pair_key IS NULL",
+           nativeQuery = true)
+    int backfillPairKeys();
 
     /**
      * 특정 유저가 속한 채팅방들을 찾는 쿼리 - 인덱스 오름차순
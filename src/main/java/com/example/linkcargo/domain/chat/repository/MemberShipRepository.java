@@ -1,6 +1,7 @@
 package com.example.linkcargo.domain.chat.repository;
 
 import com.example.linkcargo.domain.chat.Entity.Membership;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -15,4 +16,13 @@ public interface MemberShipRepository extends JpaRepository<Membership, Long> {
      */
     @Query("SELECT m FROM Membership m WHERE m.chatRoom.id = :chatRoomId AND m.user.id <> :userId")
     List<Membership> findMembershipsByChatRoomIdAndExcludeUser(@Param("chatRoomId") Long chatRoomId, @Param("userId") Long userId);
+
+    /**
+     * userIds 중 특정 유저와 같은 채팅방에 참여 중인 유저 ID
+     */
+    @Query("SELECT DISTINCT other.user.id FROM Membership mine JOIN Membership other "
+        + "ON other.chatRoom = mine.chatRoom "
+        + "WHERE mine.user.id = :userId AND other.user.id IN :userIds")
+    List<Long> findChatPartnerIdsIn(@Param("userId") Long userId,
+        @Param("userIds") Collection<Long> userIds);
 }
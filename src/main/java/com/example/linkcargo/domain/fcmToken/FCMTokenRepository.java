@@ -1,5 +1,6 @@
 package com.example.linkcargo.domain.fcmToken;
 
+import com.example.linkcargo.domain.fcmToken.dto.UserFcmToken;
 import com.example.linkcargo.domain.user.Role;
 import com.example.linkcargo.domain.user.User;
 
@@ -7,6 +8,9 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface FCMTokenRepository extends JpaRepository<FCMToken, Long> {
 
@@ -17,4 +21,15 @@ public interface FCMTokenRepository extends JpaRepository<FCMToken, Long> {
     List<FCMToken> findAllByUserRole(Role role);
 
     List<FCMToken> findAllByUserIn(List<User> users);
+
+    @Query("SELECT t.token FROM FCMToken t WHERE t.user.id IN :userIds AND t.token IS NOT NULL")
+    List<String> findTokensByUserIds(@Param("userIds") Collection<Long> userIds);
+
+    @Query("SELECT new com.example.linkcargo.domain.fcmToken.dto.UserFcmToken(t.user.id, t.token) "
+        + "FROM FCMToken t WHERE t.user.id IN :userIds AND t.token IS NOT NULL")
+    List<UserFcmToken> findUserTokensByUserIds(@Param("userIds") Collection<Long> userIds);
+
+    @Modifying
+    @Query("DELETE FROM FCMToken t WHERE t.token IN :tokens")
+    int deleteAllByTokenIn(@Param("tokens") Collection<String> tokens);
 }
@@ -0,0 +1,32 @@
+package com.example.linkcargo.domain.fcmToken;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * FCM 전송 - 운영에서는 Firebase, 로컬/부하 테스트에서는 fcm.sender=local 로 대체
+ */
+public interface FcmSender {
+
+    int MAX_MULTICAST_TOKENS = 500; // FCM 멀티캐스트 1회 최대 토큰 수
+
+    /**
+     * 단일 토큰 전송
+     *
+     * @return 메시지 ID
+     * @throws InvalidFcmTokenException 만료/잘못된 토큰
+     */
+    String send(String token, Map<String, String> data) throws Exception;
+
+    /**
+     * 최대 {@link #MAX_MULTICAST_TOKENS}개 토큰에 동일 메시지 전송
+     */
+    MulticastResult sendMulticast(List<String> tokens, Map<String, String> data) throws Exception;
+
+    /**
+     * @param invalidTokens 만료/잘못된 토큰 - 삭제 대상
+     */
+    record MulticastResult(int successCount, int failureCount, List<String> invalidTokens) {
+
+    }
+}
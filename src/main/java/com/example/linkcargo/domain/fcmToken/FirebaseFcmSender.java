@@ -0,0 +1,63 @@
+package com.example.linkcargo.domain.fcmToken;
+
+import com.google.firebase.messaging.BatchResponse;
+import com.google.firebase.messaging.FirebaseMessaging;
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.Message;
+import com.google.firebase.messaging.MessagingErrorCode;
+import com.google.firebase.messaging.MulticastMessage;
+import com.google.firebase.messaging.SendResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "fcm.sender", havingValue = "firebase", matchIfMissing = true)
+public class FirebaseFcmSender implements FcmSender {
+
+    // 재시도해도 성공할 수 없는 토큰 오류
+    private static final Set<MessagingErrorCode> INVALID_TOKEN_ERRORS = Set.of(
+        MessagingErrorCode.UNREGISTERED, MessagingErrorCode.INVALID_ARGUMENT);
+
+    @Override
+    public String send(String token, Map<String, String> data) throws Exception {
+        Message message = Message.builder()
+            .setToken(token)
+            .putAllData(data)
+            .build();
+        try {
+            return FirebaseMessaging.getInstance().send(message);
+        } catch (FirebaseMessagingException e) {
+            if (INVALID_TOKEN_ERRORS.contains(e.getMessagingErrorCode())) {
+                throw new InvalidFcmTokenException(e.getMessage(), e);
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public MulticastResult sendMulticast(List<String> tokens, Map<String, String> data)
+        throws Exception {
+        MulticastMessage message = MulticastMessage.builder()
+            .addAllTokens(tokens)
+            .putAllData(data)
+            .build();
+        BatchResponse response = FirebaseMessaging.getInstance().sendMulticast(message);
+
+        // 응답 순서는 토큰 순서와 동일
+        List<String> invalidTokens = new ArrayList<>();
+        List<SendResponse> responses = response.getResponses();
+        for (int i = 0; i < responses.size(); i++) {
+            FirebaseMessagingException exception = responses.get(i).getException();
+            if (exception != null
+                && INVALID_TOKEN_ERRORS.contains(exception.getMessagingErrorCode())) {
+                invalidTokens.add(tokens.get(i));
+            }
+        }
+        return new MulticastResult(response.getSuccessCount(), response.getFailureCount(),
+            invalidTokens);
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.linkcargo.domain.fcmToken;
+
+/**
+ * 만료/잘못된 토큰 - 재시도해도 성공할 수 없으므로 토큰 삭제 대상
+ */
+public class InvalidFcmTokenException extends Exception {
+
+    public InvalidFcmTokenException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
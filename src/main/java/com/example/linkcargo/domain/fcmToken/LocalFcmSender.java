@@ -0,0 +1,46 @@
+package com.example.linkcargo.domain.fcmToken;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로컬/부하 테스트용 FCM 대체 - 실제 전송 없이 지연만 흉내내고 성공 처리
+ * "invalid-" 로 시작하는 토큰은 만료 토큰으로 응답
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "fcm.sender", havingValue = "local")
+public class LocalFcmSender implements FcmSender {
+
+    private static final String INVALID_TOKEN_PREFIX = "invalid-";
+
+    @Value("${fcm.local.latency-millis:50}")
+    private long latencyMillis;
+
+    @Override
+    public String send(String token, Map<String, String> data) throws Exception {
+        Thread.sleep(latencyMillis);
+        if (token.startsWith(INVALID_TOKEN_PREFIX)) {
+            throw new InvalidFcmTokenException("[local FCM] unregistered token", null);
+        }
+        log.debug("[local FCM] send to {}", token);
+        return "local-" + UUID.randomUUID();
+    }
+
+    @Override
+    public MulticastResult sendMulticast(List<String> tokens, Map<String, String> data)
+        throws Exception {
+        Thread.sleep(latencyMillis);
+        List<String> invalidTokens = tokens.stream()
+            .filter(token -> token.startsWith(INVALID_TOKEN_PREFIX))
+            .toList();
+        log.debug("[local FCM] multicast to {} tokens", tokens.size());
+        return new MulticastResult(tokens.size() - invalidTokens.size(), invalidTokens.size(),
+            invalidTokens);
+    }
+}
@@ -0,0 +1,223 @@
+package com.example.linkcargo.domain.fcmToken;
+
+import com.example.linkcargo.domain.chat.PresenceRegistry;
+import com.example.linkcargo.domain.fcmToken.FcmSender.MulticastResult;
+import com.example.linkcargo.domain.notification.MailOutboxService;
+import com.example.linkcargo.domain.notification.NotificationBatchRepository;
+import com.example.linkcargo.domain.notification.NotificationEvent;
+import com.example.linkcargo.domain.notification.NotificationType;
+import com.example.linkcargo.domain.notification.dto.NotificationDTO;
+import com.example.linkcargo.domain.notification.dto.NotificationRecipient;
+import com.example.linkcargo.domain.user.Role;
+import com.example.linkcargo.domain.user.UserRepository;
+import com.example.linkcargo.global.response.code.resultCode.ErrorStatus;
+import com.example.linkcargo.global.response.exception.handler.NotificationHandler;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 전체 알림 발송
+ * 대상 유저를 키셋 페이지 단위로 읽어 알림/메일 대기열 배치 저장 -> FCM 500개 단위 병렬 전송 -> 만료 토큰 정리
+ * 한 번에 한 페이지만 메모리에 유지, 발송은 notificationFanOutExecutor 에서 실행되어 요청 스레드를 점유하지 않음
+ */
+@Slf4j
+@Service
+public class NotificationFanOutService {
+
+    private final UserRepository userRepository;
+    private final FCMTokenRepository fcmTokenRepository;
+    private final NotificationBatchRepository notificationBatchRepository;
+    private final PresenceRegistry presenceRegistry;
+    private final FcmSender fcmSender;
+    private final MailOutboxService mailOutboxService;
+    private final ThreadPoolTaskExecutor fcmSendExecutor;
+    private final ThreadPoolTaskExecutor notificationFanOutExecutor;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 메트릭
+    private final Counter recipientCounter;
+    private final Counter pushSuccessCounter;
+    private final Counter pushFailureCounter;
+    private final Counter prunedTokenCounter;
+    private final Timer fanOutTimer;
+    private final AtomicInteger runningJobs = new AtomicInteger(); // 진행 중인 발송 수
+
+    @Value("${notification.fanout.page-size:1000}")
+    private int pageSize;
+
+    public NotificationFanOutService(UserRepository userRepository,
+        FCMTokenRepository fcmTokenRepository,
+        NotificationBatchRepository notificationBatchRepository,
+        PresenceRegistry presenceRegistry, FcmSender fcmSender, MailOutboxService mailOutboxService,
+        ThreadPoolTaskExecutor fcmSendExecutor, ThreadPoolTaskExecutor notificationFanOutExecutor,
+        TransactionTemplate transactionTemplate,
+        ApplicationEventPublisher eventPublisher, MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.fcmTokenRepository = fcmTokenRepository;
+        this.notificationBatchRepository = notificationBatchRepository;
+        this.presenceRegistry = presenceRegistry;
+        this.fcmSender = fcmSender;
+        this.mailOutboxService = mailOutboxService;
+        this.fcmSendExecutor = fcmSendExecutor;
+        this.notificationFanOutExecutor = notificationFanOutExecutor;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+
+        this.recipientCounter = meterRegistry.counter("notification.fanout.recipients");
+        this.pushSuccessCounter = meterRegistry.counter("notification.fanout.push", "result", "success");
+        this.pushFailureCounter = meterRegistry.counter("notification.fanout.push", "result", "failure");
+        this.prunedTokenCounter = meterRegistry.counter("notification.fanout.tokens.pruned");
+        this.fanOutTimer = meterRegistry.timer("notification.fanout.duration");
+        meterRegistry.gauge("notification.fanout.running", runningJobs);
+    }
+
+    /**
+     * 해당 역할의 모든 유저에게 알림 발송 예약 - 진행 상황은 작업 ID 별 로그와 메트릭으로 확인
+     */
+    public void submit(Role role, Map<String, String> data) {
+        String jobId = UUID.randomUUID().toString();
+        try {
+            notificationFanOutExecutor.execute(() -> run(jobId, role, data));
+        } catch (RejectedExecutionException e) {
+            throw new NotificationHandler(ErrorStatus.NOTIFICATION_FANOUT_BUSY);
+        }
+    }
+
+    private void run(String jobId, Role role, Map<String, String> data) {
+        AtomicLong progress = new AtomicLong();
+        runningJobs.incrementAndGet();
+        try {
+            fanOut(jobId, role, data, progress);
+        } catch (Exception e) {
+            log.error("전체 알림 발송 실패 - 작업: {}, 처리 대상 수: {}", jobId, progress.get(), e);
+        } finally {
+            runningJobs.decrementAndGet();
+        }
+    }
+
+    private void fanOut(String jobId, Role role, Map<String, String> data, AtomicLong progress) {
+        NotificationType type = NotificationType.valueOf(data.get("type"));
+        // 메일 본문은 발송 1건당 한 번만 렌더링
+        Long mailContentId = mailOutboxService.createContent(data.get("title"),
+            data.get("content"), data.get("buttonTitle"), data.get("buttonUrl"));
+        fanOutTimer.record(() -> {
+            long lastId = 0L;
+            List<NotificationRecipient> page;
+            do {
+                page = userRepository.findRecipientsByRoleAfter(role, lastId,
+                    PageRequest.of(0, pageSize));
+                if (page.isEmpty()) {
+                    break;
+                }
+                lastId = page.get(page.size() - 1).userId();
+                processPage(page, type, data, mailContentId);
+
+                recipientCounter.increment(page.size());
+                log.info("전체 알림 발송 진행 - 작업: {}, 처리 대상 수: {}", jobId,
+                    progress.addAndGet(page.size()));
+            } while (page.size() == pageSize);
+        });
+        log.info("전체 알림 발송 완료 - 작업: {}, 총 대상 수: {}", jobId, progress.get());
+    }
+
+    private void processPage(List<NotificationRecipient> page, NotificationType type,
+        Map<String, String> data, Long mailContentId) {
+        // 채팅에 접속 중인 유저는 푸시/이메일 대상에서 제외
+        List<NotificationRecipient> offline = page.stream()
+            .filter(recipient -> !presenceRegistry.isOnline(recipient.userId()))
+            .toList();
+
+        // 1. 알림 및 메일 대기열 배치 저장
+        List<Long> userIds = page.stream().map(NotificationRecipient::userId).toList();
+        transactionTemplate.executeWithoutResult(status -> {
+            notificationBatchRepository.insertAll(userIds, type, data.get("title"),
+                data.get("content"), data.get("buttonTitle"), data.get("buttonUrl"));
+            mailOutboxService.enqueue(mailContentId,
+                offline.stream().map(NotificationRecipient::email).toList());
+            publishInAppEvents(page, type, data);
+        });
+        if (offline.isEmpty()) {
+            return;
+        }
+
+        // 2. FCM 전송 및 만료 토큰 정리
+        List<String> tokens = fcmTokenRepository.findTokensByUserIds(
+            offline.stream().map(NotificationRecipient::userId).toList());
+        pruneInvalidTokens(sendMulticastInChunks(tokens, data));
+    }
+
+    // 접속 중인 유저에게는 커밋 후 STOMP 로 전달 (배치 저장이라 알림 ID 는 없음)
+    private void publishInAppEvents(List<NotificationRecipient> page, NotificationType type,
+        Map<String, String> data) {
+        LocalDateTime now = LocalDateTime.now();
+        for (NotificationRecipient recipient : page) {
+            if (presenceRegistry.isOnline(recipient.userId())) {
+                eventPublisher.publishEvent(new NotificationEvent(recipient.userId(),
+                    new NotificationDTO(null, recipient.userId(), type, data.get("title"),
+                        data.get("content"), data.get("buttonTitle"), data.get("buttonUrl"), now,
+                        false), 1));
+            }
+        }
+    }
+
+    /**
+     * 토큰을 FCM 멀티캐스트 한도(500)로 나누어 fcmSendExecutor 에서 동시에 전송
+     *
+     * @return 삭제해야 할 토큰
+     */
+    private List<String> sendMulticastInChunks(List<String> tokens, Map<String, String> data) {
+        List<CompletableFuture<MulticastResult>> futures = new ArrayList<>();
+        for (int from = 0; from < tokens.size(); from += FcmSender.MAX_MULTICAST_TOKENS) {
+            List<String> chunk = tokens.subList(from,
+                Math.min(from + FcmSender.MAX_MULTICAST_TOKENS, tokens.size()));
+            futures.add(CompletableFuture.supplyAsync(() -> sendChunk(chunk, data),
+                fcmSendExecutor));
+        }
+
+        List<String> invalidTokens = new ArrayList<>();
+        for (CompletableFuture<MulticastResult> future : futures) {
+            MulticastResult result = future.join();
+            pushSuccessCounter.increment(result.successCount());
+            pushFailureCounter.increment(result.failureCount());
+            invalidTokens.addAll(result.invalidTokens());
+        }
+        return invalidTokens;
+    }
+
+    private MulticastResult sendChunk(List<String> chunk, Map<String, String> data) {
+        try {
+            return fcmSender.sendMulticast(chunk, data);
+        } catch (Exception e) {
+            log.error("FCM 다중 알림 전송 실패 - 토큰 수: {}", chunk.size(), e);
+            return new MulticastResult(0, chunk.size(), List.of());
+        }
+    }
+
+    private void pruneInvalidTokens(List<String> invalidTokens) {
+        if (invalidTokens.isEmpty()) {
+            return;
+        }
+        Integer deleted = transactionTemplate.execute(
+            status -> fcmTokenRepository.deleteAllByTokenIn(invalidTokens));
+        prunedTokenCounter.increment(deleted == null ? 0 : deleted);
+        log.info("만료된 FCM 토큰 삭제: {}", deleted);
+    }
+}
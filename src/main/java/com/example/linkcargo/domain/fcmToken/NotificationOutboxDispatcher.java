@@ -0,0 +1,156 @@
+package com.example.linkcargo.domain.fcmToken;
+
+import com.example.linkcargo.domain.fcmToken.dto.UserFcmToken;
+import com.example.linkcargo.domain.notification.Notification;
+import com.example.linkcargo.domain.notification.NotificationOutbox;
+import com.example.linkcargo.domain.notification.NotificationOutboxRepository;
+import com.example.linkcargo.domain.notification.NotificationOutboxStatus;
+import com.example.linkcargo.domain.notification.NotificationRepository;
+import com.example.linkcargo.domain.notification.OutboxClaimer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 알림 푸시 대기열 전송 워커
+ * 대기 행을 선점(SKIP LOCKED)해 fcmSendExecutor 에서 병렬 전송, 실패 시 지수 백오프로 재시도
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationOutboxDispatcher {
+
+    private final NotificationOutboxRepository notificationOutboxRepository;
+    private final OutboxClaimer outboxClaimer;
+    private final NotificationRepository notificationRepository;
+    private final FCMTokenRepository fcmTokenRepository;
+    private final FcmSender fcmSender;
+    private final ThreadPoolTaskExecutor fcmSendExecutor;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${notification.outbox.claim-size:100}")
+    private int claimSize;
+
+    @Value("${notification.outbox.max-attempts:6}")
+    private int maxAttempts;
+
+    @Value("${notification.outbox.backoff-seconds:10}")
+    private long backoffSeconds; // 첫 재시도 대기 시간, 이후 2배씩 증가
+
+    @Value("${notification.outbox.claim-timeout-minutes:5}")
+    private long claimTimeoutMinutes;
+
+    @Scheduled(fixedDelayString = "${notification.outbox.poll-interval-millis:1000}")
+    public void dispatch() {
+        List<Long> claimedIds;
+        do {
+            claimedIds = outboxClaimer.claim(notificationOutboxRepository, claimSize);
+            if (claimedIds.isEmpty()) {
+                return;
+            }
+            List<NotificationOutbox> rows = notificationOutboxRepository.findAllById(claimedIds);
+            Map<Long, Notification> notifications = notificationRepository.findAllById(
+                    rows.stream().map(NotificationOutbox::getNotificationId).toList()).stream()
+                .collect(Collectors.toMap(Notification::getId, Function.identity()));
+            Map<Long, String> tokens = fcmTokenRepository.findUserTokensByUserIds(
+                    rows.stream().map(NotificationOutbox::getUserId).distinct().toList()).stream()
+                .collect(Collectors.toMap(UserFcmToken::userId, UserFcmToken::token,
+                    (first, second) -> first));
+
+            List<CompletableFuture<Outcome>> futures = new ArrayList<>();
+            for (NotificationOutbox row : rows) {
+                futures.add(CompletableFuture.supplyAsync(() -> send(row,
+                    notifications.get(row.getNotificationId()), tokens.get(row.getUserId())),
+                    fcmSendExecutor));
+            }
+            record(futures.stream().map(CompletableFuture::join).toList());
+        } while (claimedIds.size() == claimSize);
+    }
+
+    @Scheduled(fixedDelayString = "${notification.outbox.recover-interval-millis:60000}")
+    public void recoverStaleClaims() {
+        int released = outboxClaimer.releaseStaleClaims(notificationOutboxRepository,
+            Duration.ofMinutes(claimTimeoutMinutes));
+        if (released > 0) {
+            log.warn("알림 대기열 선점 만료 복구: {}", released);
+        }
+    }
+
+    private Outcome send(NotificationOutbox row, Notification notification, String token) {
+        if (notification == null) {
+            return new Outcome(row.getId(), NotificationOutboxStatus.SKIPPED,
+                "notification deleted", null);
+        }
+        if (token == null) {
+            return new Outcome(row.getId(), NotificationOutboxStatus.SKIPPED, "no fcm token", null);
+        }
+        try {
+            fcmSender.send(token, toData(notification));
+            return new Outcome(row.getId(), NotificationOutboxStatus.SENT, null, null);
+        } catch (InvalidFcmTokenException e) {
+            return new Outcome(row.getId(), NotificationOutboxStatus.SKIPPED, e.getMessage(),
+                token);
+        } catch (Exception e) {
+            log.warn("FCM 알림 전송 실패 for userId: {}", row.getUserId(), e);
+            return new Outcome(row.getId(), NotificationOutboxStatus.PENDING, e.getMessage(), null);
+        }
+    }
+
+    // 전송 결과 반영 - 실패는 재시도 예약, 만료 토큰은 삭제
+    private void record(List<Outcome> outcomes) {
+        Map<Long, Outcome> outcomesById = outcomes.stream()
+            .collect(Collectors.toMap(Outcome::outboxId, Function.identity()));
+        List<String> invalidTokens = outcomes.stream()
+            .map(Outcome::invalidToken)
+            .filter(token -> token != null)
+            .distinct()
+            .toList();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            for (NotificationOutbox row : notificationOutboxRepository.findAllById(
+                outcomesById.keySet())) {
+                Outcome outcome = outcomesById.get(row.getId());
+                if (outcome.status() == NotificationOutboxStatus.PENDING) {
+                    row.fail(outcome.error(), maxAttempts, backoffSeconds);
+                } else {
+                    row.complete(outcome.status(), outcome.error());
+                }
+            }
+            if (!invalidTokens.isEmpty()) {
+                fcmTokenRepository.deleteAllByTokenIn(invalidTokens);
+            }
+        });
+
+        Map<NotificationOutboxStatus, Long> summary = new HashMap<>();
+        outcomes.forEach(outcome -> summary.merge(outcome.status(), 1L, Long::sum));
+        log.info("알림 대기열 전송 결과: {}", summary);
+    }
+
+    private Map<String, String> toData(Notification notification) {
+        Map<String, String> data = new HashMap<>();
+        data.put("date", notification.getCreatedAt().toString());
+        data.put("type", notification.getType().toString());
+        data.put("title", notification.getTitle());
+        data.put("content", notification.getContent());
+        data.put("buttonTitle", notification.getButtonTitle());
+        data.put("buttonUrl", notification.getButtonUrl());
+        return data;
+    }
+
+    private record Outcome(Long outboxId, NotificationOutboxStatus status, String error,
+                           String invalidToken) {
+
+    }
+}
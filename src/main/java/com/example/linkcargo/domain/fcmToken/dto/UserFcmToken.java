@@ -0,0 +1,8 @@
+package com.example.linkcargo.domain.fcmToken.dto;
+
+public record UserFcmToken(
+    Long userId,
+    String token
+) {
+
+}
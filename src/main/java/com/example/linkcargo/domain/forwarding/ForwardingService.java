@@ -7,6 +7,8 @@ import com.example.linkcargo.domain.user.Role;
 import com.example.linkcargo.domain.user.Status;
 import com.example.linkcargo.domain.user.User;
 import com.example.linkcargo.domain.user.UserRepository;
+import com.example.linkcargo.global.cache.ReferenceData;
+import com.example.linkcargo.global.cache.ReferenceDataVersions;
 import com.example.linkcargo.global.response.code.resultCode.ErrorStatus;
 import com.example.linkcargo.global.response.exception.handler.ForwardingHandler;
 import com.example.linkcargo.global.response.exception.handler.UsersHandler;
@@ -23,9 +25,11 @@ public class ForwardingService {
 
     private final ForwardingRepository forwardingRepository;
     private final UserRepository userRepository;
+    private final ReferenceDataVersions referenceDataVersions;
 
     @Transactional
     public Long createForwarding(ForwardingCreateUpdateRequest request) {
+        referenceDataVersions.bump(ReferenceData.FORWARDING);
         boolean checkDuplicate = forwardingRepository.existsByFirmName(request.firmName());
         if (checkDuplicate) {
             throw new ForwardingHandler(ErrorStatus.FORWARDING_ALREADY_EXISTS);
@@ -50,6 +54,7 @@ public class ForwardingService {
 
     @Transactional
     public void modifyForwarding(Long forwardingId, ForwardingCreateUpdateRequest request) {
+        referenceDataVersions.bump(ReferenceData.FORWARDING);
         Forwarding forwarding = forwardingRepository.findById(forwardingId)
             .orElseThrow(()-> new ForwardingHandler(ErrorStatus.FORWARDING_NOT_FOUND));
 
@@ -65,6 +70,7 @@ public class ForwardingService {
 
     @Transactional
     public void removeForwarding(Long forwardingId) {
+        referenceDataVersions.bump(ReferenceData.FORWARDING);
         Forwarding forwarding = forwardingRepository.findById(forwardingId)
             .orElseThrow(()-> new ForwardingHandler(ErrorStatus.FORWARDING_NOT_FOUND));
 
@@ -32,6 +32,13 @@ public class Image extends JpaBaseEntity {
     @Column(nullable = false)
     private String url;
 
+    // 리사이즈 변환본 - 비동기로 생성되므로 생성 전에는 null
+    @Column(name = "card_url")
+    private String cardUrl;
+
+    @Column(name = "thumbnail_url")
+    private String thumbnailUrl;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
     private User user;
@@ -1,13 +1,33 @@
 package com.example.linkcargo.domain.image;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface ImageRepository extends JpaRepository<Image, Long> {
-    @Query("SELECT i.url FROM Image i WHERE i.name LIKE %:keyword%")
+    // 카드 크기 변환본이 있으면 변환본, 없으면 원본 URL
+    @Query("SELECT COALESCE(i.cardUrl, i.url) FROM Image i WHERE i.name LIKE %:keyword%")
     List<String> findUrlsByNameContaining(@Param("keyword") String keyword);
+
+    @Modifying
+    @Query("UPDATE Image i SET i.cardUrl = :cardUrl, i.thumbnailUrl = :thumbnailUrl WHERE i.id = :id")
+    int updateVariantUrls(@Param("id") Long id, @Param("cardUrl") String cardUrl,
+        @Param("thumbnailUrl") String thumbnailUrl);
+
+    // 변환할 수 없는 형식 - 원본을 변환본으로 기록해 다시 시도하지 않음
+    @Modifying
+    @Query("UPDATE Image i SET i.cardUrl = i.url, i.thumbnailUrl = i.url WHERE i.id = :id")
+    int useOriginalAsVariants(@Param("id") Long id);
+
+    // 변환본이 없는 이미지 - id 커서 기반
+    @Query("SELECT i FROM Image i WHERE i.cardUrl IS NULL AND i.id > :afterId "
+        + "AND i.createdAt < :createdBefore ORDER BY i.id")
+    List<Image> findWithoutVariants(@Param("afterId") Long afterId,
+        @Param("createdBefore") LocalDateTime createdBefore, Pageable pageable);
 }
@@ -10,10 +10,17 @@ import com.example.linkcargo.global.s3.S3Service;
 import com.example.linkcargo.global.s3.dto.S3Result;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
@@ -21,29 +28,73 @@ public class ImageService {
     private final ImageRepository imageRepository;
     private final UserRepository userRepository;
     private final S3Service s3Service;
+    private final ThreadPoolTaskExecutor imageUploadExecutor;
+    private final TransactionTemplate transactionTemplate;
+    private final ImageVariantService imageVariantService;
 
-    @Transactional
+    /**
+     * 여러 이미지를 imageUploadExecutor 에서 병렬 업로드 후, 짧은 트랜잭션 하나로 저장
+     * S3 전송 중에는 트랜잭션(DB 커넥션)을 잡지 않음
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<Image> uploadImage(List<MultipartFile> fileList, Long userId) {
         User user = userRepository.findById(userId).orElseThrow(() -> new UsersHandler(
             ErrorStatus.USER_NOT_FOUND));
 
-        List<Image> savedImages = new ArrayList<>();
-        for(MultipartFile file : fileList) {
-            S3Result s3Result = s3Service.uploadFile(file);
+        List<CompletableFuture<S3Result>> uploads = fileList.stream()
+            .map(file -> CompletableFuture.supplyAsync(() -> s3Service.uploadFile(file),
+                imageUploadExecutor))
+            .toList();
+        List<S3Result> s3Results = awaitUploads(uploads);
 
-            Image newImage = Image.builder()
+        List<Image> newImages = new ArrayList<>(fileList.size());
+        for (int i = 0; i < fileList.size(); i++) {
+            MultipartFile file = fileList.get(i);
+            newImages.add(Image.builder()
                 .name(file.getOriginalFilename())
-                .url(s3Result.fileUrl())
+                .url(s3Results.get(i).fileUrl())
                 .type(file.getContentType())
                 .user(user)
-                .build();
+                .build());
+        }
 
-            savedImages.add(imageRepository.save(newImage));
+        List<Image> savedImages;
+        try {
+            savedImages = transactionTemplate.execute(status -> imageRepository.saveAll(newImages));
+        } catch (RuntimeException e) {
+            s3Results.forEach(this::deleteQuietly);
+            throw e;
         }
 
+        // 변환본(card, thumbnail)은 응답 이후 비동기 생성
+        for (int i = 0; i < savedImages.size(); i++) {
+            imageVariantService.createVariants(savedImages.get(i).getId(), s3Results.get(i).key());
+        }
         return savedImages;
     }
 
+    // 하나라도 실패하면 성공한 업로드를 정리하고 실패 처리
+    private List<S3Result> awaitUploads(List<CompletableFuture<S3Result>> uploads) {
+        try {
+            CompletableFuture.allOf(uploads.toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException e) {
+            uploads.stream()
+                .filter(upload -> !upload.isCompletedExceptionally())
+                .map(CompletableFuture::join)
+                .forEach(this::deleteQuietly);
+            log.warn("Image upload failed", e.getCause());
+            throw new GeneralHandler(ErrorStatus.IMAGE_UPLOAD_FAIL);
+        }
+        return uploads.stream().map(CompletableFuture::join).toList();
+    }
+
+    private void deleteQuietly(S3Result s3Result) {
+        try {
+            s3Service.deleteFile(s3Result);
+        } catch (RuntimeException e) {
+            log.warn("Failed to delete orphan image: {}", s3Result.fileUrl(), e);
+        }
+    }
 
     public List<String> selectRandomImages(String keyword, int count) {
         List<String> allUrls = imageRepository.findUrlsByNameContaining(keyword);
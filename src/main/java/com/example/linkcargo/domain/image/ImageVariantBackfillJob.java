@@ -0,0 +1,56 @@
+package com.example.linkcargo.domain.image;
+
+import com.example.linkcargo.global.s3.S3Service;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 변환본 누락 복구 - card_url 이 없는 이미지의 변환본 생성을 다시 요청
+ * 큐가 가득 차 버려진 작업, 생성 중 실패/서버 종료로 남은 이미지가 대상
+ * 한 번에 batch-size 개씩 id 순으로 진행하고 끝에 도달하면 처음부터 다시 - 계속 실패하는 이미지가 다른 이미지를 막지 않음
+ * 여러 인스턴스가 같은 이미지를 처리해도 같은 키에 덮어쓰므로 결과는 동일
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ImageVariantBackfillJob {
+
+    private final ImageRepository imageRepository;
+    private final ImageVariantService imageVariantService;
+    private final S3Service s3Service;
+
+    private volatile long lastImageId; // 다음 실행의 시작 위치 (인스턴스별)
+
+    @Value("${image.variant.backfill.batch-size:50}")
+    private int batchSize; // imageVariantExecutor 큐 크기보다 작게 유지
+
+    @Value("${image.variant.backfill.min-age-minutes:10}")
+    private long minAgeMinutes; // 업로드 직후 생성 중인 이미지는 건너뜀
+
+    @Scheduled(fixedDelayString = "${image.variant.backfill.interval-millis:600000}")
+    public void backfill() {
+        List<Image> images = imageRepository.findWithoutVariants(lastImageId,
+            LocalDateTime.now().minusMinutes(minAgeMinutes), PageRequest.of(0, batchSize));
+        lastImageId = images.size() < batchSize ? 0L : images.get(images.size() - 1).getId();
+
+        int requested = 0;
+        for (Image image : images) {
+            String key = s3Service.keyOf(image.getUrl());
+            if (key == null) {
+                log.warn("Skip image variant backfill, unknown url. imageId: {}", image.getId());
+                continue;
+            }
+            imageVariantService.createVariants(image.getId(), key);
+            requested++;
+        }
+        if (requested > 0) {
+            log.info("Image variant backfill requested: {}", requested);
+        }
+    }
+}
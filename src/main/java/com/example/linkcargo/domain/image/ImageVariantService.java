@@ -0,0 +1,128 @@
+package com.example.linkcargo.domain.image;
+
+import com.example.linkcargo.global.s3.S3Service;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 업로드된 이미지의 리사이즈 변환본(card, thumbnail) 생성
+ * 원본 업로드 이후 imageVariantExecutor 에서 비동기로 처리하며, 실패해도 원본 URL 로 대체되므로 업로드에는 영향 없음
+ * 큐가 가득 차 버려지거나 실패한 작업은 ImageVariantBackfillJob 이 다시 요청
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ImageVariantService {
+
+    private static final String VARIANT_CONTENT_TYPE = "image/jpeg";
+
+    private final S3Service s3Service;
+    private final ImageRepository imageRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${image.variant.card-width:640}")
+    private int cardWidth; // 일정 목록 카드
+
+    @Value("${image.variant.thumbnail-width:160}")
+    private int thumbnailWidth;
+
+    @Value("${image.variant.quality:0.8}")
+    private float quality; // JPEG 품질 (0 ~ 1)
+
+    /**
+     * 원본(key)으로부터 변환본을 만들어 업로드 후 Image 에 기록
+     */
+    @Async("imageVariantExecutor")
+    public void createVariants(Long imageId, String key) {
+        try {
+            BufferedImage original;
+            try (InputStream inputStream = s3Service.download(key)) {
+                original = ImageIO.read(inputStream);
+            }
+            if (original == null) {
+                log.info("Skip image variants, unsupported format. imageId: {}", imageId);
+                transactionTemplate.executeWithoutResult(status ->
+                    imageRepository.useOriginalAsVariants(imageId));
+                return;
+            }
+
+            String cardUrl = uploadVariant(original, cardWidth, variantKey(key, "card"));
+            String thumbnailUrl = uploadVariant(original, thumbnailWidth,
+                variantKey(key, "thumbnail"));
+            transactionTemplate.executeWithoutResult(status ->
+                imageRepository.updateVariantUrls(imageId, cardUrl, thumbnailUrl));
+        } catch (IOException | RuntimeException e) {
+            log.warn("Failed to create image variants. imageId: {}", imageId, e);
+        }
+    }
+
+    private String uploadVariant(BufferedImage original, int targetWidth, String variantKey)
+        throws IOException {
+        byte[] bytes = encodeJpeg(resize(original, targetWidth));
+        return s3Service.uploadBytes(variantKey, bytes, VARIANT_CONTENT_TYPE).fileUrl();
+    }
+
+    // Image/{name}.{ext} -> Image/{variant}/{name}.jpg
+    private String variantKey(String key, String variant) {
+        int slash = key.lastIndexOf('/');
+        int dot = key.lastIndexOf('.');
+        String baseName = key.substring(slash + 1, dot > slash ? dot : key.length());
+        return key.substring(0, slash + 1) + variant + "/" + baseName + ".jpg";
+    }
+
+    /**
+     * 비율을 유지하며 너비 기준 축소 (확대하지 않음), 투명 영역은 흰색으로 채움
+     */
+    private BufferedImage resize(BufferedImage original, int targetWidth) {
+        int width = Math.min(targetWidth, original.getWidth());
+        int height = Math.max(1,
+            (int) Math.round((double) original.getHeight() * width / original.getWidth()));
+
+        BufferedImage resized = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = resized.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION,
+                RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING,
+                RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.drawImage(original, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return resized;
+    }
+
+    private byte[] encodeJpeg(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (ImageOutputStream imageOutputStream = ImageIO.createImageOutputStream(outputStream)) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(quality);
+            param.setProgressiveMode(ImageWriteParam.MODE_DEFAULT); // 큰 카드 이미지 점진적 표시
+            writer.setOutput(imageOutputStream);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return outputStream.toByteArray();
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.linkcargo.domain.notification;
 
+import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -25,21 +26,31 @@ public class EmailService {
     private final SpringTemplateEngine templateEngine;
 
     /**
-     * 이메일 전송
+     * 메일 본문 렌더링 - 발송 1건당 1회
      */
-    public void sendMailNotice(String email, String title, String content, String buttonTitle, String buttonUrl) {
+    public String render(String title, String content, String buttonTitle, String buttonUrl) {
+        return setContext(todayDate(), title, content, buttonTitle, buttonUrl);
+    }
+
+    /**
+     * 렌더링된 본문으로 메시지 생성
+     */
+    public MimeMessage createMessage(String email, String subject, String html)
+        throws MessagingException {
         MimeMessage mimeMessage = javaMailSender.createMimeMessage();
-        try {
-            MimeMessageHelper mimeMessageHelper = new MimeMessageHelper(mimeMessage, false, "UTF-8");
-            mimeMessageHelper.setTo(email); // 수신자 메일
-            mimeMessageHelper.setSubject(title); // 메일 제목
-            mimeMessageHelper.setText(setContext(todayDate(), title, content, buttonTitle, buttonUrl), true); // 메일 본문
-            javaMailSender.send(mimeMessage);
-
-            log.info("SUCCEEDED TO SEND EMAIL to {}", email);
-        } catch (Exception e) {
-            log.error("FAILED TO SEND EMAIL to {}", email, e);
-            throw new RuntimeException(e);
+        MimeMessageHelper mimeMessageHelper = new MimeMessageHelper(mimeMessage, false, "UTF-8");
+        mimeMessageHelper.setTo(email); // 수신자 메일
+        mimeMessageHelper.setSubject(subject); // 메일 제목
+        mimeMessageHelper.setText(html, true); // 메일 본문
+        return mimeMessage;
+    }
+
+    /**
+     * 여러 메시지를 SMTP 연결 하나로 전송
+     */
+    public void send(MimeMessage... mimeMessages) {
+        if (mimeMessages.length > 0) {
+            javaMailSender.send(mimeMessages);
         }
     }
 
@@ -0,0 +1,7 @@
+package com.example.linkcargo.domain.notification;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface MailContentRepository extends JpaRepository<MailContent, Long> {
+
+}
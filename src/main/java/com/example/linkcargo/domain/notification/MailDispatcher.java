@@ -0,0 +1,120 @@
+package com.example.linkcargo.domain.notification;
+
+import jakarta.mail.internet.MimeMessage;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 메일 대기열 전송 워커
+ * 대기 행을 선점(SKIP LOCKED)해 mailExecutor 에서 묶음 단위로 전송 - 묶음 하나는 SMTP 연결 하나로 전송
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MailDispatcher {
+
+    private final MailOutboxRepository mailOutboxRepository;
+    private final OutboxClaimer outboxClaimer;
+    private final EmailService emailService;
+    private final ThreadPoolTaskExecutor mailExecutor;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${mail.outbox.claim-size:200}")
+    private int claimSize; // 한 번에 선점할 행 수
+
+    @Value("${mail.outbox.batch-size:50}")
+    private int batchSize; // SMTP 연결 하나로 보낼 메일 수
+
+    @Value("${mail.outbox.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${mail.outbox.backoff-seconds:60}")
+    private long backoffSeconds; // 첫 재시도 대기 시간, 이후 2배씩 증가
+
+    @Value("${mail.outbox.claim-timeout-minutes:10}")
+    private long claimTimeoutMinutes;
+
+    @Scheduled(fixedDelayString = "${mail.outbox.poll-interval-millis:1000}")
+    public void dispatch() {
+        List<Long> claimedIds;
+        do {
+            claimedIds = outboxClaimer.claim(mailOutboxRepository, claimSize);
+            if (claimedIds.isEmpty()) {
+                return;
+            }
+            List<MailOutbox> rows = mailOutboxRepository.findAllWithContentByIdIn(claimedIds);
+
+            // 묶음별 병렬 전송, 모두 끝난 뒤 다음 선점 - 처리 중인 양을 claimSize 로 제한
+            List<CompletableFuture<Void>> futures = new ArrayList<>();
+            for (int from = 0; from < rows.size(); from += batchSize) {
+                List<MailOutbox> batch = rows.subList(from, Math.min(from + batchSize, rows.size()));
+                futures.add(CompletableFuture.runAsync(() -> sendBatch(batch), mailExecutor));
+            }
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        } while (claimedIds.size() == claimSize);
+    }
+
+    @Scheduled(fixedDelayString = "${mail.outbox.recover-interval-millis:60000}")
+    public void recoverStaleClaims() {
+        int released = outboxClaimer.releaseStaleClaims(mailOutboxRepository,
+            Duration.ofMinutes(claimTimeoutMinutes));
+        if (released > 0) {
+            log.warn("메일 대기열 선점 만료 복구: {}", released);
+        }
+    }
+
+    private void sendBatch(List<MailOutbox> batch) {
+        Map<MimeMessage, MailOutbox> rowsByMessage = new IdentityHashMap<>();
+        Map<Long, String> failures = new HashMap<>();
+        for (MailOutbox row : batch) {
+            try {
+                rowsByMessage.put(emailService.createMessage(row.getRecipient(),
+                    row.getContent().getSubject(), row.getContent().getHtml()), row);
+            } catch (Exception e) {
+                failures.put(row.getId(), e.getMessage()); // 잘못된 주소 등
+            }
+        }
+
+        try {
+            emailService.send(rowsByMessage.keySet().toArray(MimeMessage[]::new));
+        } catch (MailSendException e) {
+            if (e.getFailedMessages().isEmpty()) {
+                rowsByMessage.values().forEach(row -> failures.put(row.getId(), e.getMessage()));
+            } else {
+                e.getFailedMessages().forEach((message, exception) -> failures.put(
+                    rowsByMessage.get(message).getId(), exception.getMessage()));
+            }
+        } catch (MailException e) {
+            rowsByMessage.values().forEach(row -> failures.put(row.getId(), e.getMessage()));
+        }
+
+        List<Long> sentIds = batch.stream()
+            .map(MailOutbox::getId)
+            .filter(id -> !failures.containsKey(id))
+            .toList();
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!sentIds.isEmpty()) {
+                mailOutboxRepository.updateStatus(sentIds, MailOutboxStatus.SENT, null);
+            }
+            if (!failures.isEmpty()) {
+                mailOutboxRepository.findAllById(failures.keySet()).forEach(row ->
+                    row.fail(failures.get(row.getId()), maxAttempts, backoffSeconds));
+            }
+        });
+        log.info("메일 전송 - 성공: {}, 실패: {}", sentIds.size(), failures.size());
+    }
+}
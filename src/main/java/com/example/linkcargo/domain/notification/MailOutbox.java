@@ -0,0 +1,54 @@
+package com.example.linkcargo.domain.notification;
+
+import com.example.linkcargo.global.entity.OutboxEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 메일 발송 대기열 - 수신자별 1행
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "mail_outbox", indexes = {
+    @Index(name = "idx_mail_outbox_status_next_attempt_at", columnList = "status, next_attempt_at")
+})
+public class MailOutbox extends OutboxEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "content_id", nullable = false)
+    private MailContent content;
+
+    @Column(nullable = false)
+    private String recipient;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private MailOutboxStatus status;
+
+    @Override
+    protected void markRetry() {
+        this.status = MailOutboxStatus.PENDING;
+    }
+
+    @Override
+    protected void markExhausted() {
+        this.status = MailOutboxStatus.FAILED;
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.linkcargo.domain.notification;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 메일 대기열 대량 저장 - JDBC 배치
+ */
+@Repository
+@RequiredArgsConstructor
+public class MailOutboxBatchRepository {
+
+    private static final String INSERT_SQL =
+        "INSERT INTO mail_outbox (content_id, recipient, status, attempts, next_attempt_at, "
+            + "created_at, updated_at) VALUES (?, ?, 'PENDING', 0, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insertPending(Long contentId, List<String> recipients) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, recipients, recipients.size(), (ps, recipient) -> {
+            ps.setLong(1, contentId);
+            ps.setString(2, recipient);
+            ps.setTimestamp(3, now);
+            ps.setTimestamp(4, now);
+            ps.setTimestamp(5, now);
+        });
+    }
+}
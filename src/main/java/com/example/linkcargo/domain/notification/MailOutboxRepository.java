@@ -0,0 +1,36 @@
+package com.example.linkcargo.domain.notification;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface MailOutboxRepository extends OutboxRepository<MailOutbox> {
+
+    @Override
+    @Query(value = "SELECT id FROM mail_outbox WHERE status = 'PENDING' AND next_attempt_at <= :now "
+        + "ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<Long> findClaimableIds(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    @Override
+    @Modifying
+    @Query(value = "UPDATE mail_outbox SET status = 'SENDING', claimed_at = :claimedAt "
+        + "WHERE id IN :ids", nativeQuery = true)
+    int markClaimed(@Param("ids") Collection<Long> ids, @Param("claimedAt") LocalDateTime claimedAt);
+
+    @Override
+    @Modifying
+    @Query(value = "UPDATE mail_outbox SET status = 'PENDING', claimed_at = NULL "
+        + "WHERE status = 'SENDING' AND claimed_at < :threshold", nativeQuery = true)
+    int releaseStaleClaims(@Param("threshold") LocalDateTime threshold);
+
+    @Modifying
+    @Query("UPDATE MailOutbox m SET m.status = :status, m.claimedAt = :claimedAt WHERE m.id IN :ids")
+    int updateStatus(@Param("ids") Collection<Long> ids, @Param("status") MailOutboxStatus status,
+        @Param("claimedAt") LocalDateTime claimedAt);
+
+    @Query("SELECT m FROM MailOutbox m JOIN FETCH m.content WHERE m.id IN :ids")
+    List<MailOutbox> findAllWithContentByIdIn(@Param("ids") Collection<Long> ids);
+}
@@ -0,0 +1,47 @@
+package com.example.linkcargo.domain.notification;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 메일 발송 요청 - 대기열에 저장만 하고 바로 반환, 실제 전송은 MailDispatcher 가 처리
+ */
+@Service
+@RequiredArgsConstructor
+public class MailOutboxService {
+
+    private final EmailService emailService;
+    private final MailContentRepository mailContentRepository;
+    private final MailOutboxBatchRepository mailOutboxBatchRepository;
+
+    /**
+     * 메일 본문을 한 번 렌더링해 저장 - 같은 발송의 모든 수신자가 공유
+     */
+    @Transactional
+    public Long createContent(String title, String content, String buttonTitle,
+        String buttonUrl) {
+        String html = emailService.render(title, content, buttonTitle, buttonUrl);
+        return mailContentRepository.save(MailContent.builder()
+            .subject(title)
+            .html(html)
+            .build()).getId();
+    }
+
+    @Transactional
+    public void enqueue(Long contentId, List<String> recipients) {
+        if (!recipients.isEmpty()) {
+            mailOutboxBatchRepository.insertPending(contentId, recipients);
+        }
+    }
+
+    /**
+     * 단일 수신자 메일
+     */
+    @Transactional
+    public void enqueue(String recipient, String title, String content, String buttonTitle,
+        String buttonUrl) {
+        enqueue(createContent(title, content, buttonTitle, buttonUrl), List.of(recipient));
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.linkcargo.domain.notification;
+
+public enum MailOutboxStatus {
+    PENDING, // 전송 대기 (재시도 대기 포함)
+    SENDING, // 워커가 가져가 전송 중
+    SENT, // 전송 완료
+    FAILED // 최대 재시도 초과
+}
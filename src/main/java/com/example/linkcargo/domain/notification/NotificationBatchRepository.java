@@ -0,0 +1,40 @@
+package com.example.linkcargo.domain.notification;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 알림 대량 저장 - IDENTITY 키 전략에서는 JPA 배치 INSERT 가 불가능하므로 JDBC 배치 사용
+ */
+@Repository
+@RequiredArgsConstructor
+public class NotificationBatchRepository {
+
+    private static final String INSERT_SQL =
+        "INSERT INTO notifications (user_id, type, title, content, button_title, button_url, "
+            + "is_read, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, false, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 같은 내용의 알림을 여러 유저에게 저장
+     */
+    public void insertAll(List<Long> userIds, NotificationType type, String title,
+        String content, String buttonTitle, String buttonUrl) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, userIds, userIds.size(), (ps, userId) -> {
+            ps.setLong(1, userId);
+            ps.setString(2, type.name());
+            ps.setString(3, title);
+            ps.setString(4, content);
+            ps.setString(5, buttonTitle);
+            ps.setString(6, buttonUrl);
+            ps.setTimestamp(7, now);
+            ps.setTimestamp(8, now);
+        });
+    }
+}
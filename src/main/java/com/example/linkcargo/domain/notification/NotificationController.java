@@ -1,6 +1,7 @@
 package com.example.linkcargo.domain.notification;
 
 import com.example.linkcargo.domain.notification.dto.response.NotificationPageResponse;
+import com.example.linkcargo.domain.notification.dto.response.UnreadCountResponse;
 import com.example.linkcargo.global.response.ApiResponse;
 import com.example.linkcargo.global.security.CustomUserDetail;
 import io.swagger.v3.oas.annotations.Operation;
@@ -63,6 +64,15 @@ public class NotificationController {
         return notificationPageResponse;
     }
 
+    @GetMapping("/unread/count")
+    @Operation(summary = "읽지 않은 알림 수 조회", description = "읽지 않은 알림 수를 조회합니다.")
+    @ApiResponses({
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "COMMON200", description = "OK, 성공")
+    })
+    public UnreadCountResponse getUnreadCount(@AuthenticationPrincipal CustomUserDetail userDetail) {
+        return new UnreadCountResponse(notificationService.countUnreadNotifications(userDetail.getId()));
+    }
+
     @DeleteMapping
     @ApiResponses({
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "COMMON200", description = "OK, 성공")
@@ -78,8 +88,11 @@ public class NotificationController {
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "COMMON200", description = "OK, 성공"),
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "NOTIFICATION401", description = "해당 ID 의 NOTIFICATION 이 존재하지 않습니다.", content = @Content(schema = @Schema(implementation = ApiResponse.class)))
     })
-    public void markNotificationAsRead(@PathVariable("notificationId") Long notificationId) {
-        notificationService.markAsRead(notificationId);
+    public void markNotificationAsRead(
+        @AuthenticationPrincipal CustomUserDetail userDetail,
+        @PathVariable("notificationId") Long notificationId
+    ) {
+        notificationService.markAsRead(userDetail.getId(), notificationId);
     }
 
     @PutMapping("/read")
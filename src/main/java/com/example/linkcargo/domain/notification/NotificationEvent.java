@@ -0,0 +1,17 @@
+package com.example.linkcargo.domain.notification;
+
+import com.example.linkcargo.domain.notification.dto.NotificationDTO;
+
+/**
+ * 알림 생성/읽음/삭제 이벤트 - 커밋 후 STOMP 로 전달
+ *
+ * @param notification 새 알림 (읽음/삭제 시 null)
+ * @param unreadDelta  읽지 않은 알림 수 변화량
+ */
+public record NotificationEvent(
+    Long userId,
+    NotificationDTO notification,
+    long unreadDelta
+) {
+
+}
@@ -0,0 +1,65 @@
+package com.example.linkcargo.domain.notification;
+
+import com.example.linkcargo.global.entity.OutboxEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 알림 푸시 대기열 - 알림과 같은 트랜잭션에서 저장되어 커밋된 알림은 반드시 전송 시도됨
+ * 알림 삭제와 무관하게 유지되도록 notification_id 는 FK 없이 저장
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "notification_outbox", indexes = {
+    @Index(name = "idx_notification_outbox_status_next_attempt_at", columnList = "status, next_attempt_at")
+})
+public class NotificationOutbox extends OutboxEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "notification_id", nullable = false)
+    private Long notificationId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private NotificationOutboxStatus status;
+
+    public NotificationOutbox(Long notificationId, Long userId) {
+        super(LocalDateTime.now());
+        this.notificationId = notificationId;
+        this.userId = userId;
+        this.status = NotificationOutboxStatus.PENDING;
+    }
+
+    public void complete(NotificationOutboxStatus status, String reason) {
+        this.status = status;
+        release(reason);
+    }
+
+    @Override
+    protected void markRetry() {
+        this.status = NotificationOutboxStatus.PENDING;
+    }
+
+    @Override
+    protected void markExhausted() {
+        this.status = NotificationOutboxStatus.DEAD;
+    }
+}
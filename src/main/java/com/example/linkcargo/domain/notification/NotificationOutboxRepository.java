@@ -0,0 +1,29 @@
+package com.example.linkcargo.domain.notification;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface NotificationOutboxRepository extends OutboxRepository<NotificationOutbox> {
+
+    @Override
+    @Query(value = "SELECT id FROM notification_outbox WHERE status = 'PENDING' "
+        + "AND next_attempt_at <= :now ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED",
+        nativeQuery = true)
+    List<Long> findClaimableIds(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    @Override
+    @Modifying
+    @Query(value = "UPDATE notification_outbox SET status = 'PROCESSING', claimed_at = :claimedAt "
+        + "WHERE id IN :ids", nativeQuery = true)
+    int markClaimed(@Param("ids") Collection<Long> ids, @Param("claimedAt") LocalDateTime claimedAt);
+
+    @Override
+    @Modifying
+    @Query(value = "UPDATE notification_outbox SET status = 'PENDING', claimed_at = NULL "
+        + "WHERE status = 'PROCESSING' AND claimed_at < :threshold", nativeQuery = true)
+    int releaseStaleClaims(@Param("threshold") LocalDateTime threshold);
+}
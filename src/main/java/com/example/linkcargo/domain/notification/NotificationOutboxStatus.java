@@ -0,0 +1,9 @@
+package com.example.linkcargo.domain.notification;
+
+public enum NotificationOutboxStatus {
+    PENDING, // 전송 대기 (재시도 대기 포함)
+    PROCESSING, // 디스패처가 가져가 전송 중
+    SENT, // 전송 완료
+    SKIPPED, // 전송 대상 아님 (토큰 없음/만료, 알림 삭제됨)
+    DEAD // 최대 재시도 초과
+}
@@ -0,0 +1,41 @@
+package com.example.linkcargo.domain.notification;
+
+import com.example.linkcargo.domain.chat.PresenceRegistry;
+import com.example.linkcargo.domain.notification.dto.response.NotificationPushResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 알림 변경을 "/user/{userId}/queue/notifications" 로 실시간 전달 - 읽지 않은 알림 수 폴링 대체
+ * 커밋된 변경만 전달하며, 웹소켓에 접속하지 않은 유저는 건너뜀
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationPushListener {
+
+    public static final String DESTINATION = "/queue/notifications";
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final NotificationRepository notificationRepository;
+    private final PresenceRegistry presenceRegistry;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handle(NotificationEvent event) {
+        if (!presenceRegistry.isOnline(event.userId())) {
+            return;
+        }
+        try {
+            long unreadCount = notificationRepository.countByUserIdAndIsReadFalse(event.userId());
+            messagingTemplate.convertAndSendToUser(String.valueOf(event.userId()), DESTINATION,
+                new NotificationPushResponse(event.notification(), unreadCount,
+                    event.unreadDelta()));
+        } catch (Exception e) {
+            // 실시간 전달 실패는 목록 API 로 복구 가능하므로 호출 측에 전파하지 않음
+            log.warn("알림 실시간 전달 실패 for userId: {}", event.userId(), e);
+        }
+    }
+}
@@ -1,17 +1,35 @@
 package com.example.linkcargo.domain.notification;
 
-import java.awt.print.Pageable;
-import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
 
-    List<Notification> findAllByUserId(Long userId);
-    void deleteAllByUserId(Long userId);
-
     // 페이징
     Page<Notification> findAllByUserId(Long userId, PageRequest pageRequest);
     Page<Notification> findAllByUserIdAndIsReadFalse(Long userId, PageRequest pageRequest);
+
+    boolean existsByIdAndUserId(Long id, Long userId);
+
+    // 읽지 않은 알림 수 - (user_id, is_read, created_at) 인덱스만으로 처리
+    long countByUserIdAndIsReadFalse(Long userId);
+
+    // 벌크 연산 - 엔티티를 불러오지 않고 단일 쿼리로 처리
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Notification n SET n.isRead = true, n.updatedAt = CURRENT_TIMESTAMP "
+        + "WHERE n.id = :id AND n.user.id = :userId AND n.isRead = false")
+    int markAsRead(@Param("id") Long id, @Param("userId") Long userId);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Notification n SET n.isRead = true, n.updatedAt = CURRENT_TIMESTAMP "
+        + "WHERE n.user.id = :userId AND n.isRead = false")
+    int markAllAsRead(@Param("userId") Long userId);
+
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM Notification n WHERE n.user.id = :userId")
+    int deleteAllByUserId(@Param("userId") Long userId);
 }
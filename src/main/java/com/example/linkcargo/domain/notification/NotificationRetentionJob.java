@@ -0,0 +1,105 @@
+package com.example.linkcargo.domain.notification;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 알림 보관 작업
+ * 보관 기간이 지난 읽은 알림을 배치 단위로 notifications_archive 로 옮겨 notifications 테이블 크기를 유지
+ * 배치마다 별도 트랜잭션 - 긴 잠금 없이 조금씩 이동
+ */
+@Slf4j
+@Component
+public class NotificationRetentionJob {
+
+    // 다른 인스턴스가 처리 중인 행은 건너뜀 (MySQL 8)
+    private static final String SELECT_IDS_SQL =
+        "SELECT id FROM notifications WHERE is_read = true AND created_at < :threshold "
+            + "ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED";
+
+    private static final String ARCHIVE_SQL =
+        "INSERT INTO notifications_archive (id, user_id, type, title, content, button_title, "
+            + "button_url, is_read, created_at, updated_at, archived_at) "
+            + "SELECT id, user_id, type, title, content, button_title, button_url, is_read, "
+            + "created_at, updated_at, :archivedAt FROM notifications WHERE id IN (:ids)";
+
+    private static final String DELETE_SQL = "DELETE FROM notifications WHERE id IN (:ids)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    // 메트릭
+    private final Counter archivedCounter;
+    private final Timer runTimer;
+    private final AtomicLong lastRunArchived = new AtomicLong();
+
+    @Value("${notification.retention.days:90}")
+    private int retentionDays; // 읽은 알림 보관 기간
+
+    @Value("${notification.retention.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${notification.retention.batch-pause-millis:100}")
+    private long batchPauseMillis; // 배치 사이 대기 - 복제 지연/잠금 경합 완화
+
+    public NotificationRetentionJob(NamedParameterJdbcTemplate jdbcTemplate,
+        TransactionTemplate transactionTemplate, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.archivedCounter = meterRegistry.counter("notification.retention.archived");
+        this.runTimer = meterRegistry.timer("notification.retention.duration");
+        meterRegistry.gauge("notification.retention.last.run.archived", lastRunArchived);
+    }
+
+    @Scheduled(cron = "${notification.retention.cron:0 30 3 * * *}")
+    public void archiveReadNotifications() {
+        LocalDateTime threshold = LocalDateTime.now().minusDays(retentionDays);
+        Timer.Sample sample = Timer.start();
+        long total = 0;
+        int batch;
+        do {
+            batch = archiveBatch(threshold);
+            total += batch;
+            archivedCounter.increment(batch);
+        } while (batch == batchSize && pause());
+        sample.stop(runTimer);
+        lastRunArchived.set(total);
+        log.info("알림 보관 완료 - 기준: {}, 이동: {}", threshold, total);
+    }
+
+    private int archiveBatch(LocalDateTime threshold) {
+        Integer moved = transactionTemplate.execute(status -> {
+            List<Long> ids = jdbcTemplate.queryForList(SELECT_IDS_SQL,
+                Map.of("threshold", Timestamp.valueOf(threshold), "limit", batchSize), Long.class);
+            if (ids.isEmpty()) {
+                return 0;
+            }
+            jdbcTemplate.update(ARCHIVE_SQL,
+                Map.of("ids", ids, "archivedAt", Timestamp.valueOf(LocalDateTime.now())));
+            return jdbcTemplate.update(DELETE_SQL, Map.of("ids", ids));
+        });
+        return moved == null ? 0 : moved;
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(batchPauseMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -9,6 +9,7 @@ import java.util.ArrayList;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
@@ -20,6 +21,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class NotificationService {
 
     private final NotificationRepository notificationRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 알림 저장
@@ -27,6 +29,8 @@ public class NotificationService {
      */
     public void save(Notification notification){
         notificationRepository.save(notification);
+        eventPublisher.publishEvent(new NotificationEvent(notification.getUser().getId(),
+            notification.toNotificationDTO(), 1));
     }
 
     /**
@@ -69,17 +73,32 @@ public class NotificationService {
      */
     @Transactional
     public void deleteAllAlarms(Long userId) {
+        long unreadCount = notificationRepository.countByUserIdAndIsReadFalse(userId);
         notificationRepository.deleteAllByUserId(userId);
+        eventPublisher.publishEvent(new NotificationEvent(userId, null, -unreadCount));
     }
 
     /**
-     * 해당 알림 읽음 표시
+     * 읽지 않은 알림 수
+     */
+    public long countUnreadNotifications(Long userId) {
+        return notificationRepository.countByUserIdAndIsReadFalse(userId);
+    }
+
+    /**
+     * 해당 알림 읽음 표시 - 본인 알림만
      */
     @Transactional
-    public void markAsRead(Long notificationId) {
-        Notification notification = notificationRepository.findById(notificationId)
-            .orElseThrow(() -> new NotificationHandler(ErrorStatus.NOTIFICATION_NOT_FOUND));
-        notification.updateRead(true);
+    public void markAsRead(Long userId, Long notificationId) {
+        int updated = notificationRepository.markAsRead(notificationId, userId);
+        if (updated == 0) {
+            // 이미 읽은 알림이면 변경 없음
+            if (!notificationRepository.existsByIdAndUserId(notificationId, userId)) {
+                throw new NotificationHandler(ErrorStatus.NOTIFICATION_NOT_FOUND);
+            }
+            return;
+        }
+        eventPublisher.publishEvent(new NotificationEvent(userId, null, -updated));
     }
 
     /**
@@ -87,8 +106,8 @@ public class NotificationService {
      */
     @Transactional
     public void markAllAsRead(Long userId) {
-        List<Notification> notifications = notificationRepository.findAllByUserId(userId);
-        notifications.forEach(notification -> notification.updateRead(true));
+        int updated = notificationRepository.markAllAsRead(userId);
+        eventPublisher.publishEvent(new NotificationEvent(userId, null, -updated));
     }
 
 }
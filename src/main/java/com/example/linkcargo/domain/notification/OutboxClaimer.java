@@ -0,0 +1,41 @@
+package com.example.linkcargo.domain.notification;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 대기열 선점/선점 만료 복구 - 메일/알림 디스패처 공통
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxClaimer {
+
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 대기 행 선점 - SKIP LOCKED 조회와 상태 변경을 한 트랜잭션에서 처리해 인스턴스 간 중복 전송 방지
+     */
+    public List<Long> claim(OutboxRepository<?> repository, int limit) {
+        return transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<Long> ids = repository.findClaimableIds(now, limit);
+            if (!ids.isEmpty()) {
+                repository.markClaimed(ids, now);
+            }
+            return ids;
+        });
+    }
+
+    /**
+     * 선점 후 timeout 이 지나도록 처리되지 않은 행을 대기 상태로 복구
+     */
+    public int releaseStaleClaims(OutboxRepository<?> repository, Duration timeout) {
+        Integer released = transactionTemplate.execute(status ->
+            repository.releaseStaleClaims(LocalDateTime.now().minus(timeout)));
+        return released == null ? 0 : released;
+    }
+}
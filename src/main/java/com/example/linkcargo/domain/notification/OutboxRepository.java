@@ -0,0 +1,30 @@
+package com.example.linkcargo.domain.notification;
+
+import com.example.linkcargo.global.entity.OutboxEntity;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.repository.NoRepositoryBean;
+
+/**
+ * 대기열 공통 선점 쿼리 - 테이블/상태 값이 달라 쿼리는 하위 리포지토리에서 선언
+ */
+@NoRepositoryBean
+public interface OutboxRepository<T extends OutboxEntity> extends JpaRepository<T, Long> {
+
+    /**
+     * 전송할 행 선점 - 다른 인스턴스가 잠근 행은 건너뜀 (MySQL 8)
+     */
+    List<Long> findClaimableIds(LocalDateTime now, int limit);
+
+    /**
+     * 선점한 행을 처리 중 상태로 변경
+     */
+    int markClaimed(Collection<Long> ids, LocalDateTime claimedAt);
+
+    /**
+     * 처리 중 서버가 종료되어 남은 선점 행 복구
+     */
+    int releaseStaleClaims(LocalDateTime threshold);
+}
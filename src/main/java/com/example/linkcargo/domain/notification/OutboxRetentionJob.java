@@ -0,0 +1,133 @@
+package com.example.linkcargo.domain.notification;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 대기열 정리 작업
+ * 처리가 끝난 mail_outbox/notification_outbox 행을 배치 단위로 삭제 - 성공 행은 짧게, 실패 행은 원인 확인을 위해 길게 보관
+ * 마지막 시도 시각(next_attempt_at) 기준 - (status, next_attempt_at) 인덱스 사용
+ */
+@Slf4j
+@Component
+public class OutboxRetentionJob {
+
+    // 다른 인스턴스가 처리 중인 행은 건너뜀 (MySQL 8)
+    private static final String SELECT_MAIL_IDS_SQL =
+        "SELECT id FROM mail_outbox WHERE status IN (:statuses) AND next_attempt_at < :threshold "
+            + "ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED";
+
+    private static final String DELETE_MAIL_SQL = "DELETE FROM mail_outbox WHERE id IN (:ids)";
+
+    private static final String SELECT_NOTIFICATION_IDS_SQL =
+        "SELECT id FROM notification_outbox WHERE status IN (:statuses) "
+            + "AND next_attempt_at < :threshold ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED";
+
+    private static final String DELETE_NOTIFICATION_SQL =
+        "DELETE FROM notification_outbox WHERE id IN (:ids)";
+
+    // 수신자 행이 모두 삭제된 메일 본문
+    private static final String SELECT_ORPHAN_CONTENT_IDS_SQL =
+        "SELECT c.id FROM mail_contents c WHERE c.created_at < :threshold "
+            + "AND NOT EXISTS (SELECT 1 FROM mail_outbox o WHERE o.content_id = c.id) "
+            + "ORDER BY c.id LIMIT :limit FOR UPDATE SKIP LOCKED";
+
+    private static final String DELETE_CONTENT_SQL = "DELETE FROM mail_contents WHERE id IN (:ids)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${outbox.retention.sent-days:7}")
+    private int sentRetentionDays; // 전송 완료(건너뜀 포함) 행 보관 기간
+
+    @Value("${outbox.retention.failed-days:30}")
+    private int failedRetentionDays; // 최대 재시도 초과 행 보관 기간
+
+    @Value("${outbox.retention.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${outbox.retention.batch-pause-millis:100}")
+    private long batchPauseMillis; // 배치 사이 대기 - 복제 지연/잠금 경합 완화
+
+    public OutboxRetentionJob(NamedParameterJdbcTemplate jdbcTemplate,
+        TransactionTemplate transactionTemplate, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Scheduled(cron = "${outbox.retention.cron:0 0 4 * * *}")
+    public void purge() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime sentThreshold = now.minusDays(sentRetentionDays);
+        LocalDateTime failedThreshold = now.minusDays(failedRetentionDays);
+
+        long mailSent = purge("mail_outbox", SELECT_MAIL_IDS_SQL, DELETE_MAIL_SQL,
+            List.of(MailOutboxStatus.SENT.name()), sentThreshold);
+        long mailFailed = purge("mail_outbox", SELECT_MAIL_IDS_SQL, DELETE_MAIL_SQL,
+            List.of(MailOutboxStatus.FAILED.name()), failedThreshold);
+        long notificationSent = purge("notification_outbox", SELECT_NOTIFICATION_IDS_SQL,
+            DELETE_NOTIFICATION_SQL, List.of(NotificationOutboxStatus.SENT.name(),
+                NotificationOutboxStatus.SKIPPED.name()), sentThreshold);
+        long notificationDead = purge("notification_outbox", SELECT_NOTIFICATION_IDS_SQL,
+            DELETE_NOTIFICATION_SQL, List.of(NotificationOutboxStatus.DEAD.name()),
+            failedThreshold);
+        long contents = purgeBatches("mail_contents", SELECT_ORPHAN_CONTENT_IDS_SQL,
+            DELETE_CONTENT_SQL, Map.of("threshold", Timestamp.valueOf(sentThreshold)));
+
+        log.info("대기열 정리 완료 - 메일(성공/실패): {}/{}, 알림(성공/실패): {}/{}, 메일 본문: {}",
+            mailSent, mailFailed, notificationSent, notificationDead, contents);
+    }
+
+    private long purge(String table, String selectSql, String deleteSql, List<String> statuses,
+        LocalDateTime threshold) {
+        return purgeBatches(table, selectSql, deleteSql,
+            Map.of("statuses", statuses, "threshold", Timestamp.valueOf(threshold)));
+    }
+
+    private long purgeBatches(String table, String selectSql, String deleteSql,
+        Map<String, Object> params) {
+        long total = 0;
+        int batch;
+        do {
+            batch = deleteBatch(selectSql, deleteSql, params);
+            total += batch;
+        } while (batch == batchSize && pause());
+        meterRegistry.counter("outbox.retention.deleted", "table", table).increment(total);
+        return total;
+    }
+
+    private int deleteBatch(String selectSql, String deleteSql, Map<String, Object> params) {
+        Integer deleted = transactionTemplate.execute(status -> {
+            Map<String, Object> selectParams = new HashMap<>(params);
+            selectParams.put("limit", batchSize);
+            List<Long> ids = jdbcTemplate.queryForList(selectSql, selectParams, Long.class);
+            if (ids.isEmpty()) {
+                return 0;
+            }
+            return jdbcTemplate.update(deleteSql, Map.of("ids", ids));
+        });
+        return deleted == null ? 0 : deleted;
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(batchPauseMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.linkcargo.domain.notification.dto;
+
+/**
+ * 알림 대량 발송 대상 - 엔티티 대신 필요한 컬럼만 조회
+ */
+public record NotificationRecipient(
+    Long userId,
+    String email
+) {
+
+}
@@ -0,0 +1,11 @@
+package com.example.linkcargo.domain.notification.dto.response;
+
+import com.example.linkcargo.domain.notification.dto.NotificationDTO;
+
+public record NotificationPushResponse(
+    NotificationDTO notification, // 새 알림 (읽음/삭제로 인한 갱신이면 null)
+    long unreadCount,
+    long unreadDelta
+) {
+
+}
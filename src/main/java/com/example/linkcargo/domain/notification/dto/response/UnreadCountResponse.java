@@ -0,0 +1,7 @@
+package com.example.linkcargo.domain.notification.dto.response;
+
+public record UnreadCountResponse(
+    long unreadCount
+) {
+
+}
@@ -3,6 +3,8 @@ package com.example.linkcargo.domain.port;
 import com.example.linkcargo.domain.port.dto.request.PortCreateUpdateRequest;
 import com.example.linkcargo.domain.port.dto.response.PortReadResponse;
 import com.example.linkcargo.domain.schedule.PortType;
+import com.example.linkcargo.global.cache.ReferenceData;
+import com.example.linkcargo.global.cache.ReferenceDataVersions;
 import com.example.linkcargo.global.response.code.resultCode.ErrorStatus;
 import com.example.linkcargo.global.response.exception.handler.PortHandler;
 import lombok.RequiredArgsConstructor;
@@ -20,9 +22,11 @@ import java.util.stream.Collectors;
 public class PortService {
 
     private final PortRepository portRepository;
+    private final ReferenceDataVersions referenceDataVersions;
 
     @Transactional
     public Long createPort(PortCreateUpdateRequest request) {
+        referenceDataVersions.bump(ReferenceData.PORT);
         // 같은 이름의 항구가 존재하는지 확인
         if (portRepository.existsByName(request.name())) {
             throw new PortHandler(ErrorStatus.PORT_ALREADY_EXISTS);
@@ -48,6 +52,7 @@ public class PortService {
 
     @Transactional
     public void modifyPort(Long portId, PortCreateUpdateRequest request) {
+        referenceDataVersions.bump(ReferenceData.PORT);
         Port existingPort = portRepository.findById(portId)
                 .orElseThrow(() -> new PortHandler(ErrorStatus.PORT_NOT_FOUND));
 
@@ -67,6 +72,7 @@ public class PortService {
 
     @Transactional
     public void removePort(Long portId) {
+        referenceDataVersions.bump(ReferenceData.PORT);
         Port existingPort = portRepository.findById(portId)
                 .orElseThrow(() -> new PortHandler(ErrorStatus.PORT_NOT_FOUND));
 
@@ -9,6 +9,8 @@ import com.example.linkcargo.domain.schedule.dto.response.ScheduleInfoResponse;
 import com.example.linkcargo.domain.schedule.dto.response.ScheduleListResponse;
 import com.example.linkcargo.domain.user.User;
 import com.example.linkcargo.domain.user.UserRepository;
+import com.example.linkcargo.global.cache.ReferenceData;
+import com.example.linkcargo.global.cache.ReferenceDataVersions;
 import com.example.linkcargo.global.response.code.resultCode.ErrorStatus;
 import com.example.linkcargo.global.response.exception.handler.PortHandler;
 import com.example.linkcargo.global.response.exception.handler.ScheduleHandler;
@@ -36,9 +38,11 @@ public class ScheduleService {
     private final PortRepository portRepository;
     private final ImageService imageService;
     private final UserRepository userRepository;
+    private final ReferenceDataVersions referenceDataVersions;
 
     @Transactional
     public Long createSchedule(ScheduleCreateUpdateRequest request, Long userId) {
+        referenceDataVersions.bump(ReferenceData.SCHEDULE);
 
         // 이미 존재하는 스케줄인지 확인
         if (scheduleRepository.existsByCarrierAndETDAndETAAndTransportType(
@@ -82,6 +86,7 @@ public class ScheduleService {
 
     @Transactional
     public void modifySchedule(Long scheduleId, ScheduleCreateUpdateRequest request, Long userId) {
+        referenceDataVersions.bump(ReferenceData.SCHEDULE);
         Schedule schedule = scheduleRepository.findById(scheduleId)
             .orElseThrow(() -> new ScheduleHandler(ErrorStatus.SCHEDULE_NOT_FOUND));
 
@@ -104,6 +109,7 @@ public class ScheduleService {
 
     @Transactional
     public void removeSchedule(Long scheduleId) {
+        referenceDataVersions.bump(ReferenceData.SCHEDULE);
         Schedule schedule = scheduleRepository.findById(scheduleId)
             .orElseThrow(() -> new ScheduleHandler(ErrorStatus.SCHEDULE_NOT_FOUND));
 
@@ -18,8 +18,8 @@ public class testController {
     // @GetMapping
     // public UserResponse testMethod(@AuthenticationPrincipal CustomUserDetail userDetail) {
     //
-    //    log.info("userDetail.getUser(): {}", userDetail.getUser().toUserResponse());
-    //    return userDetail.getUser().toUserResponse();
+    //    log.info("userDetail.getUser(): {}", userDetail.getUser().toUserResponse(userDetail.getUser().getProfile()));
+    //    return userDetail.getUser().toUserResponse(userDetail.getUser().getProfile());
     // }
 
 }
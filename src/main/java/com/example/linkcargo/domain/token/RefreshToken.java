@@ -5,10 +5,20 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
 import lombok.Getter;
 
+/**
+ * 유저별 리프레시 토큰 - 원문 대신 SHA-256 해시(hex)만 저장
+ */
 @Entity
 @Getter
+@Table(name = "refresh_token", indexes = {
+    @Index(name = "idx_refresh_token_previous_token", columnList = "previous_token"),
+    @Index(name = "idx_refresh_token_expires_at", columnList = "expires_at")
+})
 public class RefreshToken {
 
     @Id
@@ -18,15 +28,27 @@ public class RefreshToken {
     @Column(name = "user_id", nullable = false, unique = true)
     private Long userId;
 
-    @Column(name = "token", nullable = false)
+    @Column(name = "token", nullable = false, unique = true, length = 64)
     private String token;
 
+    // 직전 토큰 해시 - 교체된 토큰이 다시 사용되면 탈취로 보고 세션 폐기
+    @Column(name = "previous_token", length = 64)
+    private String previousToken;
+
+    // 마지막 교체 시각 - 직후 같은 토큰으로 동시에 들어온 요청은 탈취로 보지 않음
+    @Column(name = "rotated_at")
+    private LocalDateTime rotatedAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
     protected RefreshToken() {
     }
 
-    public RefreshToken(Long userId, String token) {
+    public RefreshToken(Long userId, String tokenHash, LocalDateTime expiresAt) {
         this.userId = userId;
-        this.token = token;
+        this.token = tokenHash;
+        this.expiresAt = expiresAt;
     }
 
 }
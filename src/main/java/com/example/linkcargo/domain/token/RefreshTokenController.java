@@ -13,6 +13,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import java.util.concurrent.CompletableFuture;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -47,11 +48,12 @@ public class RefreshTokenController {
     @ApiResponses({
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "COMMON200", description = "OK, 성공"),
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "USER403", description = "해당 정보의 유저를 찾을 수 없습니다.", content = @Content(schema = @Schema(implementation = ApiResponse.class))),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "USER405", description = "로그인 요청이 많습니다. 잠시 후 다시 시도해주세요.", content = @Content(schema = @Schema(implementation = ApiResponse.class))),
     })
-    public ApiResponse<TokenResponse> login(
+    public CompletableFuture<ApiResponse<TokenResponse>> login(
         @Valid @RequestBody UserLoginRequest userLoginRequest) {
-        TokenResponse tokenResponse = refreshTokenService.login(userLoginRequest);
-        return ApiResponse.onSuccess(tokenResponse);
+        // 비밀번호 검증이 끝날 때까지 요청 스레드를 반환 (비동기 응답)
+        return refreshTokenService.login(userLoginRequest).thenApply(ApiResponse::onSuccess);
     }
 
     @Operation(summary = "토큰 재발급", description = "토큰을 재발급합니다. 헤더의 Refresh-Token 사용")
@@ -1,11 +1,32 @@
 package com.example.linkcargo.domain.token;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
 
-    Optional<RefreshToken> findByUserIdAndToken(Long userId, String refreshToken);
+    /**
+     * 토큰 교체 - 현재 토큰(해시)이 일치하고 만료 전일 때만 갱신, 갱신된 행 수 반환 (0 이면 교체 실패)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE RefreshToken r SET r.previousToken = r.token, r.token = :newToken, "
+        + "r.expiresAt = :expiresAt, r.rotatedAt = :now "
+        + "WHERE r.token = :token AND r.userId = :userId AND r.expiresAt > :now")
+    int rotate(@Param("userId") Long userId, @Param("token") String token,
+        @Param("newToken") String newToken, @Param("expiresAt") LocalDateTime expiresAt,
+        @Param("now") LocalDateTime now);
 
-    void deleteByUserId(Long userId);
+    Optional<RefreshToken> findByUserIdAndPreviousToken(Long userId, String previousToken);
+
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM RefreshToken r WHERE r.userId = :userId")
+    int deleteByUserId(@Param("userId") Long userId);
+
+    @Modifying
+    @Query("DELETE FROM RefreshToken r WHERE r.expiresAt < :now")
+    int deleteAllExpired(@Param("now") LocalDateTime now);
 }
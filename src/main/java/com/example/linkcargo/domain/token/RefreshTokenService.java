@@ -7,22 +7,31 @@ import com.example.linkcargo.domain.token.dto.request.UserRegisterRequest;
 import com.example.linkcargo.domain.token.dto.response.TokenResponse;
 import com.example.linkcargo.domain.user.User;
 import com.example.linkcargo.domain.user.UserRepository;
+import com.example.linkcargo.global.jwt.JwtClaims;
 import com.example.linkcargo.global.jwt.JwtProvider;
 import com.example.linkcargo.global.response.code.resultCode.ErrorStatus;
 import com.example.linkcargo.global.response.exception.handler.JwtHandler;
 import com.example.linkcargo.global.response.exception.handler.UsersHandler;
 import com.example.linkcargo.global.security.CustomUserDetail;
-import java.util.Date;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.authentication.BadCredentialsException;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.config.annotation.authentication.builders.AuthenticationManagerBuilder;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.AuthenticationException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional
@@ -32,7 +41,15 @@ public class RefreshTokenService {
     private final JwtProvider jwtProvider;
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
-    private final AuthenticationManagerBuilder authenticationManagerBuilder;
+    private final ThreadPoolTaskExecutor passwordVerificationExecutor;
+    private final ThreadPoolTaskExecutor loginIoExecutor;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${jwt.refresh-token.reuse-grace-seconds:10}")
+    private long reuseGraceSeconds; // 교체 직후 이전 토큰 재사용을 동시 요청으로 허용하는 시간
+
+    // 존재하지 않는 이메일도 해시 비교 1회를 수행해 응답 시간으로 가입 여부가 드러나지 않도록
+    private volatile String userNotFoundPasswordHash;
 
     /**
      * 회원가입
@@ -50,39 +67,78 @@ public class RefreshTokenService {
     }
 
     /**
-     * 로그인
+     * 로그인 - 요청 스레드를 점유하지 않음
+     * 유저 조회(loginIoExecutor) -> 비밀번호 검증/재해시(passwordVerificationExecutor, 해시 계산만) -> 토큰 발급(loginIoExecutor)
+     * 검증 풀의 큐가 가득 차면 즉시 503
      */
-    public TokenResponse login(UserLoginRequest userLoginRequest) {
-        UsernamePasswordAuthenticationToken authenticationToken = new UsernamePasswordAuthenticationToken(
-            userLoginRequest.email(), userLoginRequest.password());
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CompletableFuture<TokenResponse> login(UserLoginRequest userLoginRequest) {
+        return CompletableFuture
+            .supplyAsync(() -> userRepository.findByEmail(userLoginRequest.email()).orElse(null),
+                loginIoExecutor)
+            .thenCompose(user -> verifyPasswordAsync(user, userLoginRequest.password()))
+            .thenApplyAsync(verifiedLogin -> transactionTemplate.execute(
+                status -> completeLogin(verifiedLogin)), loginIoExecutor);
+    }
 
+    private CompletableFuture<VerifiedLogin> verifyPasswordAsync(User user, String rawPassword) {
         try {
-            Authentication authentication = authenticationManagerBuilder.getObject()
-                .authenticate(authenticationToken);
-
-            CustomUserDetail customUserDetail = (CustomUserDetail) authentication.getPrincipal();
-            TokenResponse tokenResponse = createTokens(customUserDetail);
-            RefreshToken refreshToken = new RefreshToken(customUserDetail.getId(),
-                tokenResponse.refreshToken());
-            // 기존 리프레시 토큰 제거 
-            refreshTokenRepository.deleteByUserId(customUserDetail.getId());
-            // 새 리프레시 토큰 저장
-            refreshTokenRepository.save(refreshToken);
-            return tokenResponse;
-        } catch (AuthenticationException e) {
-            if (e instanceof BadCredentialsException) {
-                throw new UsersHandler(ErrorStatus.USER_NOT_FOUND);
-            }
-            throw new UsersHandler(ErrorStatus.INTERNAL_SERVER_ERROR);
+            return CompletableFuture.supplyAsync(() -> verifyPassword(user, rawPassword),
+                passwordVerificationExecutor);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(new UsersHandler(ErrorStatus.USER_LOGIN_BUSY));
         }
     }
 
+    /**
+     * 비밀번호 검증 - 구버전 해시(접두사 없음, 낮은 강도)는 현재 설정으로 다시 해시
+     */
+    private VerifiedLogin verifyPassword(User user, String rawPassword) {
+        if (user == null) {
+            passwordEncoder.matches(rawPassword, getUserNotFoundPasswordHash());
+            throw new UsersHandler(ErrorStatus.USER_NOT_FOUND);
+        }
+        if (!passwordEncoder.matches(rawPassword, user.getPassword())) {
+            throw new UsersHandler(ErrorStatus.USER_NOT_FOUND);
+        }
+        String upgradedPassword = passwordEncoder.upgradeEncoding(user.getPassword())
+            ? passwordEncoder.encode(rawPassword) : null;
+        return new VerifiedLogin(new CustomUserDetail(user.getId(), user.getEmail(), user.getRole()),
+            upgradedPassword);
+    }
+
+    private String getUserNotFoundPasswordHash() {
+        if (userNotFoundPasswordHash == null) {
+            userNotFoundPasswordHash = passwordEncoder.encode("userNotFoundPassword");
+        }
+        return userNotFoundPasswordHash;
+    }
+
+    private TokenResponse completeLogin(VerifiedLogin verifiedLogin) {
+        if (verifiedLogin.upgradedPassword() != null) {
+            userRepository.updatePasswordByEmail(verifiedLogin.user().getUsername(),
+                verifiedLogin.upgradedPassword());
+        }
+        return issueTokens(verifiedLogin.user());
+    }
+
+    private TokenResponse issueTokens(CustomUserDetail customUserDetail) {
+        TokenResponse tokenResponse = createTokens(customUserDetail);
+        RefreshToken refreshToken = new RefreshToken(customUserDetail.getId(),
+            hash(tokenResponse.refreshToken()), jwtProvider.getRefreshTokenExpiresAt());
+        // 기존 리프레시 토큰 제거 (즉시 실행되는 벌크 삭제 - 유저당 1행 유지)
+        refreshTokenRepository.deleteByUserId(customUserDetail.getId());
+        // 새 리프레시 토큰 저장
+        refreshTokenRepository.save(refreshToken);
+        return tokenResponse;
+    }
+
     /**
      * 토큰 생성
      */
     private TokenResponse createTokens(CustomUserDetail customUserDetail) {
         String accessToken = jwtProvider.generateAccessToken(customUserDetail.getId(),
-            customUserDetail.getUsername());
+            customUserDetail.getUsername(), customUserDetail.getRole());
         String refreshToken = jwtProvider.generateRefreshToken(customUserDetail.getId(),
             customUserDetail.getUsername());
 
@@ -90,25 +146,48 @@ public class RefreshTokenService {
     }
 
     /**
-     * 토큰 재생성(리프레시)
+     * 토큰 재생성(리프레시) - 저장된 토큰 해시를 단일 UPDATE 로 교체
+     * 이미 교체된 토큰이 다시 사용되면 탈취로 보고 세션 폐기 (롤백하지 않음)
+     * 단, 교체 직후(reuse-grace-seconds 이내)의 재사용은 동시 요청으로 보고 세션을 유지한 채 실패 처리
      */
+    @Transactional(noRollbackFor = JwtHandler.class)
     public TokenResponse reCreateTokens(String refreshToken) {
         if (isNull(refreshToken)) {
             throw new JwtHandler(ErrorStatus.INVALID_REFRESH_TOKEN);
         }
 
-        Long userId = jwtProvider.getIdFromRefresh(refreshToken);
-        String email = jwtProvider.getEmailFromRefresh(refreshToken);
-        validate(userId, refreshToken); // 리프레시 토큰 유효성 검사
+        // 서명/만료 검증 및 클레임 추출을 한 번에
+        JwtClaims claims = jwtProvider.parseRefresh(refreshToken);
+        Long userId = claims.userId();
+        String email = claims.email();
 
-        String accessToken = jwtProvider.generateAccessToken(userId, email);
-        deleteByUserId(userId); // 기존 리프레시 토큰 삭제
-        // 새 리프레시 토큰 생성 및 저장
+        String tokenHash = hash(refreshToken);
         String newRefreshToken = jwtProvider.generateRefreshToken(userId, email);
-        refreshTokenRepository.save(new RefreshToken(userId, newRefreshToken));
+        LocalDateTime now = LocalDateTime.now();
+        int rotated = refreshTokenRepository.rotate(userId, tokenHash, hash(newRefreshToken),
+            jwtProvider.getRefreshTokenExpiresAt(), now);
+        if (rotated == 0) {
+            RefreshToken rotatedToken = refreshTokenRepository
+                .findByUserIdAndPreviousToken(userId, tokenHash).orElse(null);
+            if (rotatedToken != null && !isWithinReuseGrace(rotatedToken, now)) {
+                deleteByUserId(userId);
+                throw new JwtHandler(ErrorStatus.REUSED_REFRESH_TOKEN);
+            }
+            throw new JwtHandler(ErrorStatus.REFRESH_TOKEN_NOT_FOUND);
+        }
+
+        // 권한 변경이 반영되도록 재발급 시점의 role 사용
+        User user = userRepository.findById(userId)
+            .orElseThrow(() -> new UsersHandler(ErrorStatus.USER_NOT_FOUND));
+        String accessToken = jwtProvider.generateAccessToken(userId, email, user.getRole());
         return new TokenResponse(accessToken, newRefreshToken);
     }
 
+    private boolean isWithinReuseGrace(RefreshToken refreshToken, LocalDateTime now) {
+        return refreshToken.getRotatedAt() != null
+            && refreshToken.getRotatedAt().isAfter(now.minusSeconds(reuseGraceSeconds));
+    }
+
     /**
      * 리프레시 토큰 삭제
      */
@@ -117,15 +196,23 @@ public class RefreshTokenService {
     }
 
     /**
-     * 리프레시 토큰 유효성 검증
+     * 만료된 리프레시 토큰 정리
      */
-    public void validate(Long userId, String refreshToken) {
-        RefreshToken tokenEntity = refreshTokenRepository.findByUserIdAndToken(userId, refreshToken)
-            .orElseThrow(() -> new JwtHandler(ErrorStatus.REFRESH_TOKEN_NOT_FOUND));
+    @Scheduled(cron = "${jwt.refresh-token.purge-cron:0 0 4 * * *}")
+    public void purgeExpired() {
+        int deleted = refreshTokenRepository.deleteAllExpired(LocalDateTime.now());
+        log.info("Expired refresh tokens purged: {}", deleted);
+    }
 
-        Date expirationDate = jwtProvider.getExpiration(tokenEntity.getToken());
-        if (expirationDate.before(new Date())) {
-            throw new JwtHandler(ErrorStatus.EXPIRED_REFRESH_TOKEN);
+    /**
+     * 토큰 원문 대신 저장할 SHA-256 해시 (hex 64자)
+     */
+    private String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
         }
     }
 
@@ -146,4 +233,8 @@ public class RefreshTokenService {
             throw new UsersHandler(ErrorStatus.USER_EXISTS_BUSINESS_NUMBER);
         }
     }
+
+    private record VerifiedLogin(CustomUserDetail user, String upgradedPassword) {
+
+    }
 }
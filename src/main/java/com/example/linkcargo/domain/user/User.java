@@ -105,7 +105,6 @@ public class User extends JpaBaseEntity {
                 ", firstName='" + firstName + '\'' +
                 ", lastName='" + lastName + '\'' +
                 ", email='" + email + '\'' +
-                ", password='" + password + '\'' +
                 ", profile='" + profile + '\'' +
                 ", phoneNumber='" + phoneNumber + '\'' +
                 ", companyName='" + companyName + '\'' +
@@ -113,12 +112,13 @@ public class User extends JpaBaseEntity {
                 ", businessNumber='" + businessNumber + '\'' +
                 ", status=" + status +
                 ", totalPrice=" + totalPrice +
-                ", notifications=" + notifications +
-                ", memberships=" + memberships +
                 '}';
     }
 
-    public UserResponse toUserResponse() {
+    /**
+     * @param profileUrl 조회 시점에 발급한 프로필 이미지 URL (profile 필드에는 S3 키가 저장됨)
+     */
+    public UserResponse toUserResponse(String profileUrl) {
         return new UserResponse(
             new UserDTO(
                 this.id,
@@ -127,7 +127,7 @@ public class User extends JpaBaseEntity {
                 this.lastName,
                 this.email,
                 this.password,
-                this.profile,
+                profileUrl,
                 this.phoneNumber,
                 this.companyName,
                 this.jobTitle,
@@ -142,7 +142,7 @@ public class User extends JpaBaseEntity {
         this.profile = "https://play-lh.googleusercontent.com/38AGKCqmbjZ9OuWx4YjssAz3Y0DTWbiM5HB0ove1pNBq_o9mtWfGszjZNxZdwt_vgHo=w240-h480-rw";
     }
 
-    public void updateProfile(String s3ImageUrl) {
-        this.profile = s3ImageUrl;
+    public void updateProfile(String s3ImageKey) {
+        this.profile = s3ImageKey;
     }
 }
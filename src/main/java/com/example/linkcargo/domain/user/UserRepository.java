@@ -1,8 +1,13 @@
 package com.example.linkcargo.domain.user;
 
+import com.example.linkcargo.domain.notification.dto.NotificationRecipient;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface UserRepository extends JpaRepository<User, Long> {
 
@@ -13,4 +18,19 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
 
     List<User> findAllByRole(Role role);
+
+    /**
+     * 알림 발송 대상 키셋 페이징 - lastId 이후 ID 순으로 조회
+     */
+    @Query("SELECT new com.example.linkcargo.domain.notification.dto.NotificationRecipient(u.id, u.email) "
+        + "FROM User u WHERE u.role = :role AND u.id > :lastId ORDER BY u.id")
+    List<NotificationRecipient> findRecipientsByRoleAfter(@Param("role") Role role,
+        @Param("lastId") Long lastId, Pageable pageable);
+
+    /**
+     * 비밀번호 해시 갱신 - 로그인 시 해시 방식/강도 업그레이드용
+     */
+    @Modifying
+    @Query("UPDATE User u SET u.password = :password WHERE u.email = :email")
+    int updatePasswordByEmail(@Param("email") String email, @Param("password") String password);
 }
@@ -1,27 +1,23 @@
 package com.example.linkcargo.domain.user;
 
 import com.amazonaws.services.s3.AmazonS3;
-import com.amazonaws.services.s3.model.DeleteObjectRequest;
+import com.amazonaws.services.s3.model.AmazonS3Exception;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest.KeyVersion;
 import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
-import com.amazonaws.services.s3.model.GetObjectRequest;
-import com.amazonaws.services.s3.model.ListObjectsV2Request;
-import com.amazonaws.services.s3.model.ListObjectsV2Result;
-import com.amazonaws.services.s3.model.PutObjectRequest;
-import com.amazonaws.services.s3.model.S3Object;
-import com.amazonaws.services.s3.model.S3ObjectSummary;
-import com.example.linkcargo.domain.user.dto.response.FileResponse;
-import com.example.linkcargo.domain.user.dto.response.FilesResponse;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.example.linkcargo.domain.chat.dto.response.ChatFileUploadUrlResponse;
 import com.example.linkcargo.global.response.code.resultCode.ErrorStatus;
+import com.example.linkcargo.global.response.exception.handler.ChatHandler;
 import com.example.linkcargo.global.response.exception.handler.GeneralHandler;
 import com.example.linkcargo.global.response.exception.handler.UsersHandler;
-import com.example.linkcargo.global.s3.dto.FileDTO;
-import java.io.File;
+import com.example.linkcargo.global.s3.PresignedUrlCache;
+import com.example.linkcargo.global.s3.S3Service;
 import java.io.IOException;
+import java.net.URI;
 import java.net.URL;
-import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
-import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
@@ -38,6 +34,8 @@ public class UserS3Service {
 
     private final AmazonS3 amazonS3;
     private final UserRepository userRepository;
+    private final PresignedUrlCache presignedUrlCache;
+    private final S3Service s3Service;
 
     @Value("${cloud.aws.s3.profile-bucket.name}")
     private String profileBucketName;
@@ -45,22 +43,26 @@ public class UserS3Service {
     @Value("${cloud.aws.s3.chatroom-bucket.name}")
     private String chatroomBucketName;
 
-    private String region = "ap-northeast-2";
+    private static final String PROFILE_KEY_PREFIX = "profile/";
+    private static final String[] LEGACY_PROFILE_EXTENSIONS = {"jpg", "jpeg", "png"};
+    private static final long UPLOAD_URL_EXPIRATION_MILLIS = 10 * 60 * 1000; // 업로드 URL 10분 유효
 
-    private String getImageKey(Long userId, String fileExtension) {
-        return userId + "." + fileExtension;
+    private String getProfileKey(Long userId) {
+        return PROFILE_KEY_PREFIX + userId;
     }
 
     @Transactional
     public void deleteExistingImage(Long userId) {
-        // 유저 ID를 파일명으로 갖는 모든 확장자의 파일을 삭제
-        String[] extensions = {"jpg", "jpeg", "png"};  // 삭제할 확장자 목록
-        for (String extension : extensions) {
-            String key = getImageKey(userId, extension);
-            if (amazonS3.doesObjectExist(profileBucketName, key)) {
-                amazonS3.deleteObject(new DeleteObjectRequest(profileBucketName, key));
-            }
+        // 존재 여부 확인(HEAD) 없이 한 번의 다중 삭제 요청 - 없는 키는 무시됨
+        List<KeyVersion> keys = new ArrayList<>();
+        keys.add(new KeyVersion(getProfileKey(userId)));
+        for (String extension : LEGACY_PROFILE_EXTENSIONS) {
+            keys.add(new KeyVersion(userId + "." + extension)); // 이전 형식의 키
         }
+        amazonS3.deleteObjects(new DeleteObjectsRequest(profileBucketName)
+            .withKeys(keys)
+            .withQuiet(true));
+        presignedUrlCache.evict(profileBucketName, getProfileKey(userId));
 
         // 유저 엔티티에서도 프로필 이미지 초기화
         User user = userRepository.findById(userId)
@@ -68,147 +70,122 @@ public class UserS3Service {
         user.resetProfile();
     }
 
-    @Transactional
+    /**
+     * 프로필 이미지 업로드 - 고정 키(profile/{userId})에 덮어쓰므로 기존 이미지 삭제 불필요
+     * 업로드 중에는 트랜잭션(DB 커넥션)을 잡지 않음
+     */
     public void uploadProfileImage(Long userId, MultipartFile file) {
-        File tempFile = null;
+        User user = userRepository.findById(userId)
+            .orElseThrow(() -> new UsersHandler(ErrorStatus.USER_NOT_FOUND));
+
+        String key = getProfileKey(userId);
         try {
-            // 파일을 임시 파일로 저장
-            tempFile = File.createTempFile("temp",
-                "." + getFileExtension(file.getOriginalFilename()));
-            file.transferTo(tempFile);
-
-            // 기존 이미지 삭제(존재하면)
-            deleteExistingImage(userId);
-
-            // 파일 업로드
-            String key = getImageKey(userId, getFileExtension(file.getOriginalFilename()));
-            amazonS3.putObject(new PutObjectRequest(profileBucketName, key, tempFile));
-
-            // URL 생성
-            GeneratePresignedUrlRequest generatePresignedUrlRequest =
-                new GeneratePresignedUrlRequest(profileBucketName, key)
-                    .withMethod(com.amazonaws.HttpMethod.GET)
-                    .withExpiration(new Date(System.currentTimeMillis() + 3600 * 1000)); // 1시간 유효기간
-            URL url = amazonS3.generatePresignedUrl(generatePresignedUrlRequest);
-
-            // 유저 엔티티에도 프로필 이미지 업로드
-            User user = userRepository.findById(userId)
-                .orElseThrow(() -> new UsersHandler(ErrorStatus.USER_NOT_FOUND));
-            user.updateProfile(url.toString());
+            s3Service.upload(profileBucketName, key, file, null);
         } catch (IOException e) {
-            throw new GeneralHandler(ErrorStatus.USER_PROFILE_UPLOAD_FAIL); // 사용자 정의 예외로 변환
-        } finally {
-            if (tempFile != null && tempFile.exists()) {
-                tempFile.delete(); // 임시 파일 삭제
-            }
+            throw new GeneralHandler(ErrorStatus.USER_PROFILE_UPLOAD_FAIL);
         }
+        // 같은 키라도 새 URL 을 발급해 이전 이미지가 브라우저 캐시에 남지 않도록 함
+        presignedUrlCache.evict(profileBucketName, key);
+
+        // URL 대신 S3 키 저장 - 조회 시점에 presigned URL 로 변환
+        user.updateProfile(key);
+        userRepository.save(user);
     }
 
-    @Transactional
-    public FileResponse uploadFile(MultipartFile file, Long chatRoomId, Long userId) {
-        File tempFile = null;
-        try {
-            // 파일 확장자 가져오기
-            String fileExtension = getFileExtension(file.getOriginalFilename());
-
-            // 임시 파일 생성
-            tempFile = File.createTempFile("temp", "." + fileExtension);
-
-            // MultipartFile을 임시 파일로 저장
-            file.transferTo(tempFile);
-
-            // 파일 업로드를 위한 UUID 생성 및 키 생성
-            String uuidString = UUID.randomUUID().toString();
-            String key = chatRoomId + "/" + uuidString + "/" + file.getOriginalFilename();
-
-            // S3에 파일 업로드
-            amazonS3.putObject(new PutObjectRequest(chatroomBucketName, key, tempFile));
-
-            // 객체의 LastModified 정보를 얻기 위한 객체 메타데이터 조회
-            S3Object s3Object = amazonS3.getObject(new GetObjectRequest(chatroomBucketName, key));
-            Date lastModifiedDate = s3Object.getObjectMetadata().getLastModified();
-
-            // LocalDateTime으로 변환
-            LocalDateTime lastModified = Instant.ofEpochMilli(lastModifiedDate.getTime())
-                .atZone(ZoneId.systemDefault())
-                .toLocalDateTime();
-
-            // 유효기간이 1시간인 presigned URL 생성
-            GeneratePresignedUrlRequest generatePresignedUrlRequest = new GeneratePresignedUrlRequest(
-                chatroomBucketName, key)
-                .withMethod(com.amazonaws.HttpMethod.GET)
-                .withExpiration(new Date(System.currentTimeMillis() + 3600 * 1000)); // 1시간 유효기간
-            URL url = amazonS3.generatePresignedUrl(generatePresignedUrlRequest);
-
-            // FileResponse 생성
-            return new FileResponse(
-                new FileDTO(
-                    file.getOriginalFilename(), url.toString(),
-                    lastModified.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME)
-                )
-            );
-        } catch (IOException e) {
-            // 예외 발생 시 트랜잭션 롤백 및 사용자 정의 예외 던지기
-            throw new GeneralHandler(ErrorStatus.USER_PROFILE_UPLOAD_FAIL);
-        } finally {
-            if (tempFile != null && tempFile.exists()) {
-                if (!tempFile.delete()) {
-                    // 파일 삭제에 실패한 경우 로그 출력
-                    System.err.println(
-                        "Failed to delete temporary file: " + tempFile.getAbsolutePath());
-                }
-            }
+    /**
+     * 프로필 이미지 조회용 URL
+     * S3 키는 presigned URL(캐시)로 변환하고, 기본 이미지 등 외부 URL 은 그대로 반환
+     */
+    public String resolveProfileUrl(String profile) {
+        if (profile == null || profile.isBlank()) {
+            return profile;
+        }
+        if (!profile.startsWith("http")) {
+            return presignedUrlCache.getUrl(profileBucketName, profile);
+        }
+        // 이전에 저장된 presigned URL - 만료되므로 키를 추출해 새로 발급
+        URI uri = URI.create(profile);
+        if (uri.getHost() != null && uri.getHost().startsWith(profileBucketName + ".s3.")) {
+            return presignedUrlCache.getUrl(profileBucketName, uri.getPath().substring(1));
         }
+        return profile;
     }
 
     /**
-     * 특정 폴더(프리픽스) 아래의 모든 객체를 조회
+     * 채팅방 파일 업로드 (서버 경유) - 임시 파일 없이 S3 로 스트리밍 후 객체 키 반환
      */
-    public FilesResponse getAllObjectsInChatRoom(Long chatRoomId) {
-        List<FileDTO> fileDTOS = new ArrayList<>();
-
-        // 객체 나열
-        ListObjectsV2Request listObjectsRequest = new ListObjectsV2Request()
-            .withBucketName(chatroomBucketName)
-            .withPrefix(chatRoomId.toString() + "/");
-
-        ListObjectsV2Result result;
-        do {
-            result = amazonS3.listObjectsV2(listObjectsRequest);
-            for (S3ObjectSummary objectSummary : result.getObjectSummaries()) {
-                String objectKey = objectSummary.getKey();
-                // 마지막 '/' 이후의 부분 추출
-                String fileName = objectKey.substring(objectKey.lastIndexOf('/') + 1);
-                // 객체의 마지막 수정 시간
-                Date lastModifiedDate = objectSummary.getLastModified();
-                // Date를 LocalDateTime으로 변환
-                LocalDateTime lastModified = Instant.ofEpochMilli(lastModifiedDate.getTime())
-                    .atZone(ZoneId.systemDefault())
-                    .toLocalDateTime();
-                // URL 생성
-                String url = String.format("https://%s.s3.%s.amazonaws.com/%s", chatroomBucketName,
-                    region, objectKey);
-                fileDTOS.add(new FileDTO(fileName, url,
-                    lastModified.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME)));
-            }
+    public String uploadChatFile(Long chatRoomId, String fileName, MultipartFile file) {
+        String key = createChatFileKey(chatRoomId, fileName);
+        try {
+            s3Service.upload(chatroomBucketName, key, file, null);
+        } catch (IOException e) {
+            throw new ChatHandler(ErrorStatus.CHAT_FILE_UPLOAD_FAIL);
+        }
+        return key;
+    }
 
-            // 다음 페이지가 있는 경우, 계속 나열
-            listObjectsRequest.setContinuationToken(result.getNextContinuationToken());
+    // 키 형식: {chatRoomId}/{uuid}/{fileName}
+    private String createChatFileKey(Long chatRoomId, String fileName) {
+        return chatRoomId + "/" + UUID.randomUUID() + "/" + fileName;
+    }
 
-        } while (result.isTruncated()); // 객체가 더 있는 경우
+    /**
+     * 채팅방 파일 직접 업로드용 presigned PUT URL 발급
+     */
+    public ChatFileUploadUrlResponse createChatFileUploadUrl(Long chatRoomId, String fileName,
+        String contentType) {
+        String key = createChatFileKey(chatRoomId, fileName);
+        Date expiration = new Date(System.currentTimeMillis() + UPLOAD_URL_EXPIRATION_MILLIS);
+
+        GeneratePresignedUrlRequest generatePresignedUrlRequest = new GeneratePresignedUrlRequest(
+            chatroomBucketName, key)
+            .withMethod(com.amazonaws.HttpMethod.PUT)
+            .withExpiration(expiration);
+        if (contentType != null && !contentType.isBlank()) {
+            generatePresignedUrlRequest.setContentType(contentType); // 업로드 시 동일한 Content-Type 필요
+        }
+        URL url = amazonS3.generatePresignedUrl(generatePresignedUrlRequest);
 
-        return new FilesResponse(fileDTOS.size(), fileDTOS);
+        return new ChatFileUploadUrlResponse(key, url.toString(),
+            LocalDateTime.ofInstant(expiration.toInstant(), ZoneId.systemDefault()));
     }
 
-    private String getFileExtension(String fileName) {
+    /**
+     * 업로드된 채팅방 파일의 메타데이터 조회 (HEAD)
+     */
+    public ObjectMetadata getChatFileMetadata(String key) {
         try {
-            int lastIndexOfDot = fileName.lastIndexOf(".");
-            if (lastIndexOfDot == -1 || lastIndexOfDot == fileName.length() - 1) {
-                return ""; // 파일 확장자가 없는 경우
+            return amazonS3.getObjectMetadata(chatroomBucketName, key);
+        } catch (AmazonS3Exception e) {
+            if (e.getStatusCode() == 404) {
+                throw new ChatHandler(ErrorStatus.CHAT_FILE_NOT_FOUND);
             }
-            return fileName.substring(lastIndexOfDot + 1).toLowerCase(); // 파일 확장자 문자열 반환
-        } catch (StringIndexOutOfBoundsException e) {
-            throw new GeneralHandler(ErrorStatus.S3_FILE_NAME_ERROR);
+            throw e;
+        }
+    }
+
+    /**
+     * 채팅방 파일 다운로드용 presigned GET URL - 만료 직전까지 캐시된 URL 재사용
+     */
+    public String getChatFileUrl(String key) {
+        return presignedUrlCache.getUrl(chatroomBucketName, key);
+    }
+
+    /**
+     * 채팅 메시지에 저장된 파일 경로를 조회용 URL 로 변환
+     * S3 키는 presigned URL(캐시)로 변환, 이전에 저장된 채팅방 버킷 presigned URL 은 키를 추출해 새로 발급
+     */
+    public String resolveChatFileUrl(String fileUrl) {
+        if (fileUrl == null || fileUrl.isBlank()) {
+            return fileUrl;
+        }
+        if (!fileUrl.startsWith("http")) {
+            return getChatFileUrl(fileUrl);
+        }
+        URI uri = URI.create(fileUrl);
+        if (uri.getHost() != null && uri.getHost().startsWith(chatroomBucketName + ".s3.")) {
+            return getChatFileUrl(uri.getPath().substring(1));
         }
+        return fileUrl;
     }
 }
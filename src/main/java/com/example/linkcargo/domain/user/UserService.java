@@ -19,6 +19,7 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final UserS3Service userS3Service;
 
     public User getUser(Long userId) {
         return userRepository.findById(userId)
@@ -27,7 +28,7 @@ public class UserService {
 
     public UserResponse getUserProfile(Long userId) {
         User user = getUser(userId);
-        return user.toUserResponse();
+        return user.toUserResponse(userS3Service.resolveProfileUrl(user.getProfile()));
     }
 
     public void changePassword(Long userId, UserPasswordUpdateRequest userPasswordUpdateRequest) {
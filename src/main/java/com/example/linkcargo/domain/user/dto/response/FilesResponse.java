@@ -6,6 +6,7 @@ import java.util.List;
 
 public record FilesResponse (
     int fileCount,
-    List<FileDTO> files
+    List<FileDTO> files,
+    Long nextCursor // 다음 페이지 조회 시 전달할 커서 (마지막 페이지면 null)
 ){
 }
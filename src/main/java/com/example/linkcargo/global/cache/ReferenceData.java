@@ -0,0 +1,10 @@
+package com.example.linkcargo.global.cache;
+
+/**
+ * 변경이 드물어 HTTP 캐시(ETag) 대상이 되는 기준 데이터
+ */
+public enum ReferenceData {
+    PORT,
+    FORWARDING,
+    SCHEDULE,
+}
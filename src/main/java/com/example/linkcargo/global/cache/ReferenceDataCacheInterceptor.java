@@ -0,0 +1,41 @@
+package com.example.linkcargo.global.cache;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * 기준 데이터 조회 API 의 조건부 요청 처리
+ * 컨트롤러 실행 전에 버전 카운터로 ETag 를 계산해 If-None-Match 가 일치하면 DB 조회/직렬화 없이 304 응답
+ * ETag 를 조회 전에 계산하므로 조회 중 변경이 커밋되어도 응답 데이터가 ETag 보다 오래되지 않음
+ */
+public class ReferenceDataCacheInterceptor implements HandlerInterceptor {
+
+    private final ReferenceDataVersions referenceDataVersions;
+    private final String cacheControl;
+    private final ReferenceData[] dependencies;
+
+    public ReferenceDataCacheInterceptor(ReferenceDataVersions referenceDataVersions,
+        CacheControl cacheControl, ReferenceData... dependencies) {
+        this.referenceDataVersions = referenceDataVersions;
+        this.cacheControl = cacheControl.getHeaderValue();
+        this.dependencies = dependencies;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response,
+        Object handler) {
+        String method = request.getMethod();
+        if (!"GET".equals(method) && !"HEAD".equals(method)) {
+            return true;
+        }
+
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl);
+        String etag = referenceDataVersions.etag(dependencies);
+        // 일치하면 304 설정, 아니면 응답에 ETag 헤더 추가
+        return !new ServletWebRequest(request, response).checkNotModified(etag);
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.linkcargo.global.cache;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 기준 데이터 버전 - 모든 노드가 공유, 데이터 변경과 같은 트랜잭션에서 증가
+ * 행은 첫 변경 시 생성 (ReferenceDataVersions.bump 의 upsert)
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "reference_data_versions")
+public class ReferenceDataVersion {
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private ReferenceData name;
+
+    @Column(nullable = false)
+    private long version;
+}
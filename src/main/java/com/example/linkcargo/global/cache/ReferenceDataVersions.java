@@ -0,0 +1,86 @@
+package com.example.linkcargo.global.cache;
+
+import java.util.EnumMap;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 기준 데이터 버전 - ETag 계산에 사용
+ * 버전은 reference_data_versions 테이블에 두어 모든 노드가 같은 값을 봄, 조회는 짧은 캐시로 요청마다 DB 조회하지 않음
+ * 다른 노드의 변경은 최대 캐시 시간(reference-data.version-cache-millis)만큼 늦게 반영
+ */
+@Component
+@RequiredArgsConstructor
+public class ReferenceDataVersions {
+
+    // 동시 변경은 행 잠금으로 직렬화 - 기준 데이터 변경은 드묾
+    private static final String BUMP_SQL =
+        "INSERT INTO reference_data_versions (name, version) VALUES (?, 1) "
+            + "ON DUPLICATE KEY UPDATE version = version + 1";
+
+    private static final String SELECT_SQL = "SELECT name, version FROM reference_data_versions";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${reference-data.version-cache-millis:2000}")
+    private long cacheMillis;
+
+    private volatile Snapshot snapshot;
+
+    /**
+     * 버전 증가 - 데이터 변경과 같은 트랜잭션에서 실행되어 함께 커밋/롤백
+     * 커밋 후 이 노드의 캐시를 비워 바로 반영
+     */
+    public void bump(ReferenceData data) {
+        jdbcTemplate.update(BUMP_SQL, data.name());
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        snapshot = null;
+                    }
+                });
+            return;
+        }
+        snapshot = null;
+    }
+
+    /**
+     * 강한 ETag - "버전[-버전...]"
+     */
+    public String etag(ReferenceData... dependencies) {
+        Map<ReferenceData, Long> versions = currentVersions();
+        StringBuilder etag = new StringBuilder(32).append('"');
+        for (int i = 0; i < dependencies.length; i++) {
+            if (i > 0) {
+                etag.append('-');
+            }
+            etag.append(Long.toHexString(versions.getOrDefault(dependencies[i], 0L)));
+        }
+        return etag.append('"').toString();
+    }
+
+    private Map<ReferenceData, Long> currentVersions() {
+        Snapshot current = snapshot;
+        long now = System.currentTimeMillis();
+        if (current == null || now - current.loadedAt() >= cacheMillis) {
+            Map<ReferenceData, Long> versions = new EnumMap<>(ReferenceData.class);
+            jdbcTemplate.query(SELECT_SQL, rs -> {
+                versions.put(ReferenceData.valueOf(rs.getString("name")), rs.getLong("version"));
+            });
+            current = new Snapshot(versions, now);
+            snapshot = current;
+        }
+        return current.versions();
+    }
+
+    private record Snapshot(Map<ReferenceData, Long> versions, long loadedAt) {
+
+    }
+}
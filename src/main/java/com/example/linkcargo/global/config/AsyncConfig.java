@@ -0,0 +1,167 @@
+package com.example.linkcargo.global.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 용도별 작업 스레드 풀 - 외부 I/O 작업이 요청 스레드나 서로의 풀을 점유하지 않도록 분리
+ */
+@Slf4j
+@EnableAsync
+@Configuration
+public class AsyncConfig {
+
+    // 이미지 업로드 - 동시에 S3 로 전송할 최대 파일 수
+    @Value("${image.upload.pool-size:4}")
+    private int imageUploadPoolSize;
+
+    @Value("${image.upload.queue-capacity:100}")
+    private int imageUploadQueueCapacity;
+
+    // 이미지 변환본 생성 - 디코딩 메모리 사용량이 크므로 작게 유지
+    @Value("${image.variant.pool-size:2}")
+    private int imageVariantPoolSize;
+
+    @Value("${image.variant.queue-capacity:200}")
+    private int imageVariantQueueCapacity;
+
+    // FCM 멀티캐스트 동시 전송 수
+    @Value("${notification.fanout.fcm-concurrency:4}")
+    private int fcmSendPoolSize;
+
+    // 전체 알림 발송 작업 - 동시에 실행할 발송 수와 대기 가능한 발송 수
+    @Value("${notification.fanout.concurrent-jobs:1}")
+    private int fanOutPoolSize;
+
+    @Value("${notification.fanout.queue-capacity:10}")
+    private int fanOutQueueCapacity;
+
+    // 메일 전송 워커 수 - 워커 하나가 SMTP 연결 하나 사용
+    @Value("${mail.worker.pool-size:4}")
+    private int mailPoolSize;
+
+    // 로그인 비밀번호 검증(BCrypt) - CPU 바운드이므로 코어 수 이하로 제한, 큐가 차면 즉시 거절
+    @Value("${security.password.verify-pool-size:#{T(java.lang.Runtime).getRuntime().availableProcessors()}}")
+    private int passwordVerifyPoolSize;
+
+    @Value("${security.password.verify-queue-capacity:200}")
+    private int passwordVerifyQueueCapacity;
+
+    // 로그인 DB 작업(유저 조회, 재해시 저장, 토큰 발급) - 검증 풀이 DB 대기로 막히지 않도록 분리
+    @Value("${security.login.io-pool-size:8}")
+    private int loginIoPoolSize;
+
+    @Value("${security.login.io-queue-capacity:200}")
+    private int loginIoQueueCapacity;
+
+    @Bean
+    public ThreadPoolTaskExecutor imageUploadExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(imageUploadPoolSize);
+        executor.setMaxPoolSize(imageUploadPoolSize);
+        executor.setQueueCapacity(imageUploadQueueCapacity);
+        executor.setThreadNamePrefix("image-upload-");
+        // 큐가 가득 차면 요청 스레드에서 직접 업로드 - 작업을 버리지 않고 속도만 조절
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        return executor;
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor imageVariantExecutor(MeterRegistry meterRegistry) {
+        Counter rejected = Counter.builder("image.variant.rejected")
+            .description("Image variant jobs discarded because the queue was full")
+            .register(meterRegistry);
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(imageVariantPoolSize);
+        executor.setMaxPoolSize(imageVariantPoolSize);
+        executor.setQueueCapacity(imageVariantQueueCapacity);
+        executor.setThreadNamePrefix("image-variant-");
+        // 변환본은 없어도 원본으로 대체되므로 큐가 가득 차면 버림 - 누락분은 ImageVariantBackfillJob 이 다시 생성
+        executor.setRejectedExecutionHandler((task, pool) -> {
+            rejected.increment();
+            log.warn("Image variant queue is full, task discarded");
+        });
+        return executor;
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor fcmSendExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(fcmSendPoolSize);
+        executor.setMaxPoolSize(fcmSendPoolSize);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("fcm-send-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        return executor;
+    }
+
+    // 요청 스레드에서 대신 실행하지 않음 - 큐가 차면 거절 후 503 응답
+    @Bean
+    public ThreadPoolTaskExecutor notificationFanOutExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(fanOutPoolSize);
+        executor.setMaxPoolSize(fanOutPoolSize);
+        executor.setQueueCapacity(fanOutQueueCapacity);
+        executor.setThreadNamePrefix("notification-fanout-");
+        return executor;
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor mailExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(mailPoolSize);
+        executor.setMaxPoolSize(mailPoolSize);
+        executor.setQueueCapacity(mailPoolSize * 2);
+        executor.setThreadNamePrefix("mail-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        return executor;
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor loginIoExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(loginIoPoolSize);
+        executor.setMaxPoolSize(loginIoPoolSize);
+        executor.setQueueCapacity(loginIoQueueCapacity);
+        executor.setThreadNamePrefix("login-io-");
+        // 거절하지 않음 - 이전 단계 스레드에서 실행해 CompletableFuture 가 완료되지 않는 경우 방지
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        return executor;
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor passwordVerificationExecutor(MeterRegistry meterRegistry) {
+        Counter rejected = Counter.builder("auth.password.verify.rejected")
+            .description("Login password verifications rejected because the queue was full")
+            .register(meterRegistry);
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(passwordVerifyPoolSize);
+        executor.setMaxPoolSize(passwordVerifyPoolSize);
+        executor.setQueueCapacity(passwordVerifyQueueCapacity);
+        executor.setThreadNamePrefix("password-verify-");
+        // 요청 스레드에서 대신 실행하지 않음 - 거절 후 503 응답
+        executor.setRejectedExecutionHandler((task, pool) -> {
+            rejected.increment();
+            throw new RejectedExecutionException("Password verification queue is full");
+        });
+
+        Gauge.builder("auth.password.verify.queue", executor, ThreadPoolTaskExecutor::getQueueSize)
+            .description("Login password verifications waiting for a thread")
+            .register(meterRegistry);
+        Gauge.builder("auth.password.verify.active", executor, ThreadPoolTaskExecutor::getActiveCount)
+            .register(meterRegistry);
+        return executor;
+    }
+}
@@ -15,6 +15,8 @@ public class MailConfig {
     private static final String MAIL_DEBUG = "mail.smtp.debug";
     private static final String MAIL_CONNECTION_TIMEOUT = "mail.smtp.connectiontimeout";
     private static final String MAIL_SMTP_STARTTLS_ENABLE = "mail.smtp.starttls.enable";
+    private static final String MAIL_TIMEOUT = "mail.smtp.timeout";
+    private static final String MAIL_WRITE_TIMEOUT = "mail.smtp.writetimeout";
 
     // SMTP 서버
     @Value("${spring.mail.host}")
@@ -44,6 +46,13 @@ public class MailConfig {
     @Value("${spring.mail.properties.mail.smtp.starttls.enable}")
     private boolean startTlsEnable;
 
+    // 응답 없는 SMTP 서버가 메일 워커를 무한정 점유하지 않도록 읽기/쓰기 제한
+    @Value("${spring.mail.properties.mail.smtp.timeout:10000}")
+    private int timeout;
+
+    @Value("${spring.mail.properties.mail.smtp.writetimeout:10000}")
+    private int writeTimeout;
+
     @Bean
     public JavaMailSender javaMailService() {
         JavaMailSenderImpl javaMailSender = new JavaMailSenderImpl();
@@ -57,6 +66,8 @@ public class MailConfig {
         properties.put(MAIL_DEBUG, debug);
         properties.put(MAIL_CONNECTION_TIMEOUT, connectionTimeout);
         properties.put(MAIL_SMTP_STARTTLS_ENABLE, startTlsEnable);
+        properties.put(MAIL_TIMEOUT, timeout);
+        properties.put(MAIL_WRITE_TIMEOUT, writeTimeout);
 
         javaMailSender.setJavaMailProperties(properties);
         javaMailSender.setDefaultEncoding("UTF-8");
@@ -0,0 +1,27 @@
+package com.example.linkcargo.global.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * @Scheduled 작업용 스케줄러
+ * 웹소켓 하트비트 스케줄러가 따로 있으므로 "taskScheduler" 이름으로 명시해 @Scheduled 가 이 빈을 사용하도록 함
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+    @Value("${scheduling.pool-size:2}")
+    private int poolSize;
+
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(poolSize);
+        scheduler.setThreadNamePrefix("scheduling-");
+        return scheduler;
+    }
+}
@@ -1,11 +1,18 @@
 package com.example.linkcargo.global.config;
 
+import com.example.linkcargo.global.cache.ReferenceData;
+import com.example.linkcargo.global.cache.ReferenceDataCacheInterceptor;
+import com.example.linkcargo.global.cache.ReferenceDataVersions;
 import com.example.linkcargo.global.resolver.JwtAuthorizationArgumentResolver;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Configuration
@@ -13,12 +20,48 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 public class WebConfig implements WebMvcConfigurer {
 
     private final JwtAuthorizationArgumentResolver jwtAuthorizationArgumentResolver;
+    private final ReferenceDataVersions referenceDataVersions;
+
+    // 기준 데이터 응답 캐시 시간 - 이후에는 ETag 로 재검증 (변경 없으면 304)
+    @Value("${http.cache.ports.max-age-seconds:300}")
+    private long portsMaxAgeSeconds;
+
+    @Value("${http.cache.forwardings.max-age-seconds:60}")
+    private long forwardingsMaxAgeSeconds;
+
+    @Value("${http.cache.schedules.max-age-seconds:60}")
+    private long schedulesMaxAgeSeconds;
 
     @Override
     public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
         resolvers.add(jwtAuthorizationArgumentResolver);
     }
 
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // 항구 목록/검색 - 로그인 없이 조회되는 공용 데이터
+        CacheControl portsCacheControl = CacheControl
+            .maxAge(portsMaxAgeSeconds, TimeUnit.SECONDS).cachePublic().mustRevalidate();
+        registry.addInterceptor(new ReferenceDataCacheInterceptor(referenceDataVersions,
+                portsCacheControl, ReferenceData.PORT))
+            .addPathPatterns("/api/v1/ports", "/api/v1/ports/search");
+
+        // 포워딩 업체 단일 조회
+        CacheControl forwardingsCacheControl = CacheControl
+            .maxAge(forwardingsMaxAgeSeconds, TimeUnit.SECONDS).cachePrivate().mustRevalidate();
+        registry.addInterceptor(new ReferenceDataCacheInterceptor(referenceDataVersions,
+                forwardingsCacheControl, ReferenceData.FORWARDING))
+            .addPathPatterns("/api/v1/forwardings/*");
+
+        // 스케줄 단일 조회 - 항구 삭제 등 항구 변경도 반영
+        CacheControl schedulesCacheControl = CacheControl
+            .maxAge(schedulesMaxAgeSeconds, TimeUnit.SECONDS).cachePrivate().mustRevalidate();
+        registry.addInterceptor(new ReferenceDataCacheInterceptor(referenceDataVersions,
+                schedulesCacheControl, ReferenceData.SCHEDULE, ReferenceData.PORT))
+            .addPathPatterns("/api/v1/schedules/*")
+            .excludePathPatterns("/api/v1/schedules/list", "/api/v1/schedules/search");
+    }
+
     @Override
     public void addCorsMappings(CorsRegistry registry) {
         registry.addMapping("/**")
@@ -1,21 +1,77 @@
 package com.example.linkcargo.global.config;
 
 import com.example.linkcargo.domain.chat.JwtChannelInterceptor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.RejectedExecutionException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
 
+@Slf4j
 @Configuration
 @EnableWebSocketMessageBroker
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     private final JwtChannelInterceptor jwtChannelInterceptor;
+    private final MeterRegistry meterRegistry;
 
-    public WebSocketConfig(JwtChannelInterceptor jwtChannelInterceptor) {
+    // 전송 계층 제한
+    @Value("${chat.websocket.message-size-limit:65536}")
+    private int messageSizeLimit; // 수신 메시지 최대 크기 (bytes)
+
+    @Value("${chat.websocket.send-buffer-size-limit:524288}")
+    private int sendBufferSizeLimit; // 세션별 송신 버퍼 최대 크기 (bytes)
+
+    @Value("${chat.websocket.send-time-limit:10000}")
+    private int sendTimeLimit; // 단일 전송 최대 시간 (ms)
+
+    @Value("${chat.websocket.time-to-first-message:30000}")
+    private int timeToFirstMessage; // 연결 후 첫 메시지(CONNECT)까지 대기 시간 (ms)
+
+    // 브로커 하트비트 (ms) - 서버 송신, 클라이언트 수신 간격
+    @Value("${chat.websocket.heartbeat.server:10000}")
+    private long serverHeartbeat;
+
+    @Value("${chat.websocket.heartbeat.client:10000}")
+    private long clientHeartbeat;
+
+    // 채널 스레드 풀
+    @Value("${chat.websocket.inbound.core-pool-size:8}")
+    private int inboundCorePoolSize;
+
+    @Value("${chat.websocket.inbound.max-pool-size:32}")
+    private int inboundMaxPoolSize;
+
+    @Value("${chat.websocket.inbound.queue-capacity:1000}")
+    private int inboundQueueCapacity;
+
+    @Value("${chat.websocket.outbound.core-pool-size:8}")
+    private int outboundCorePoolSize;
+
+    @Value("${chat.websocket.outbound.max-pool-size:32}")
+    private int outboundMaxPoolSize;
+
+    @Value("${chat.websocket.outbound.queue-capacity:1000}")
+    private int outboundQueueCapacity;
+
+    public WebSocketConfig(JwtChannelInterceptor jwtChannelInterceptor,
+        MeterRegistry meterRegistry) {
         this.jwtChannelInterceptor = jwtChannelInterceptor;
+        this.meterRegistry = meterRegistry;
     }
 
     @Override
@@ -27,15 +83,94 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
         // 클라이언트가 발행한 메시지를 수신할 경로
-        config.enableSimpleBroker("/sub","/queue");
+        config.enableSimpleBroker("/sub","/queue")
+            .setHeartbeatValue(new long[]{serverHeartbeat, clientHeartbeat})
+            .setTaskScheduler(brokerHeartbeatScheduler());
         // 클라이언트가 메시지를 발행할 경로
         config.setApplicationDestinationPrefixes("/pub");
         // 특정 사용자에게 메시지 전송 시 사용할 주소 - 세션 ID 를 사용해 전송할 때
         config.setUserDestinationPrefix("/user");
     }
 
+    /**
+     * 느린 구독자 처리 - 송신 버퍼/시간 제한을 초과한 세션은 종료되어 다른 세션의 전송을 막지 않음
+     */
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration
+            .setMessageSizeLimit(messageSizeLimit)
+            .setSendBufferSizeLimit(sendBufferSizeLimit)
+            .setSendTimeLimit(sendTimeLimit)
+            .setTimeToFirstMessage(timeToFirstMessage)
+            .addDecoratorFactory(SlowSubscriberLoggingDecorator::new);
+    }
+
+    /**
+     * 채널 큐가 가득 차면 해당 프레임은 버려짐 (재시도/대기 없음)
+     * - inbound: 클라이언트가 보낸 메시지가 처리되지 않음, 클라이언트에는 오류가 전달되지 않음
+     * - outbound: 해당 구독자에게 메시지가 전달되지 않음, 다른 구독자 전송에는 영향 없음
+     * 버려진 수는 websocket.channel.rejected{channel} 로 집계
+     */
     @Override
     public void configureClientInboundChannel(ChannelRegistration registration) {
         registration.interceptors(jwtChannelInterceptor);
+        registration.taskExecutor(channelExecutor("clientInboundChannel-", "inbound"))
+            .corePoolSize(inboundCorePoolSize)
+            .maxPoolSize(inboundMaxPoolSize)
+            .queueCapacity(inboundQueueCapacity);
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.taskExecutor(channelExecutor("clientOutboundChannel-", "outbound"))
+            .corePoolSize(outboundCorePoolSize)
+            .maxPoolSize(outboundMaxPoolSize)
+            .queueCapacity(outboundQueueCapacity);
+    }
+
+    /**
+     * 큐 초과 시 거절 횟수를 기록한 뒤 거절 (요청 I/O 스레드에서 대신 실행하지 않음)
+     */
+    private ThreadPoolTaskExecutor channelExecutor(String threadNamePrefix, String channel) {
+        Counter rejected = Counter.builder("websocket.channel.rejected")
+            .description("STOMP frames dropped because the channel queue was full")
+            .tag("channel", channel)
+            .register(meterRegistry);
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix(threadNamePrefix);
+        executor.setRejectedExecutionHandler((task, pool) -> {
+            rejected.increment();
+            throw new RejectedExecutionException(
+                "WebSocket " + channel + " channel queue is full, frame dropped");
+        });
+        return executor;
+    }
+
+    @Bean
+    public ThreadPoolTaskScheduler brokerHeartbeatScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("ws-heartbeat-");
+        return scheduler;
+    }
+
+    /**
+     * 송신 제한 초과로 종료된 세션을 기록
+     */
+    private static class SlowSubscriberLoggingDecorator extends WebSocketHandlerDecorator {
+
+        SlowSubscriberLoggingDecorator(WebSocketHandler delegate) {
+            super(delegate);
+        }
+
+        @Override
+        public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus)
+            throws Exception {
+            if (CloseStatus.SESSION_NOT_RELIABLE.equals(closeStatus)) {
+                log.warn("Slow subscriber evicted, sessionId: {}", session.getId());
+            }
+            super.afterConnectionClosed(session, closeStatus);
+        }
     }
 }
@@ -0,0 +1,71 @@
+package com.example.linkcargo.global.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.MappedSuperclass;
+import java.time.LocalDateTime;
+import lombok.Getter;
+
+/**
+ * 대기열(outbox) 공통 - 재시도 횟수/다음 시도 시각/선점 시각/마지막 오류
+ * 상태 값은 대기열마다 달라 하위 엔티티가 관리
+ */
+@Getter
+@MappedSuperclass
+public abstract class OutboxEntity extends JpaBaseEntity {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "claimed_at")
+    private LocalDateTime claimedAt;
+
+    @Column(name = "last_error", length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    protected OutboxEntity() {
+    }
+
+    protected OutboxEntity(LocalDateTime nextAttemptAt) {
+        this.attempts = 0;
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    /**
+     * 전송 실패 - 최대 횟수 전까지는 지수 백오프 후 재시도
+     */
+    public void fail(String error, int maxAttempts, long baseBackoffSeconds) {
+        this.attempts++;
+        release(error);
+        if (this.attempts >= maxAttempts) {
+            markExhausted();
+            return;
+        }
+        markRetry();
+        this.nextAttemptAt = LocalDateTime.now()
+            .plusSeconds(baseBackoffSeconds << (this.attempts - 1));
+    }
+
+    /**
+     * 선점 해제 - 처리 결과(사유)를 남김
+     */
+    protected void release(String reason) {
+        this.claimedAt = null;
+        this.lastError = reason == null ? null
+            : reason.substring(0, Math.min(reason.length(), MAX_ERROR_LENGTH));
+    }
+
+    /**
+     * 재시도 대기 상태로 변경
+     */
+    protected abstract void markRetry();
+
+    /**
+     * 최대 재시도 초과 상태로 변경
+     */
+    protected abstract void markExhausted();
+}
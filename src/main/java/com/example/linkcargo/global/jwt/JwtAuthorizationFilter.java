@@ -5,8 +5,6 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
-import java.util.Arrays;
-import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.Authentication;
@@ -19,30 +17,17 @@ import org.springframework.web.filter.OncePerRequestFilter;
 @RequiredArgsConstructor
 public class JwtAuthorizationFilter extends OncePerRequestFilter {
 
+    // 검증된 클레임을 요청 범위에 보관 - @Login 인자 해석 시 재사용
+    public static final String CLAIMS_ATTRIBUTE = JwtClaims.class.getName();
+
     private final JwtProvider jwtProvider;
     private final JwtValidator jwtValidator;
+    private final JwtExcludePathMatcher jwtExcludePathMatcher;
 
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) throws ServletException {
         // JWT 인증이 필요없는 URL (Security Context 에 사용자 정보 X)
-        List<String> excludePaths = Arrays.asList(
-            "/api/v1/users/register",
-            "/api/v1/users/login",
-            "/api/v1/users/refresh",
-            "/api/v1/ports",
-            "/api/v1/cargos/calculate",
-            "/api/v1/schedules/list",
-            "/api/swagger-ui/",
-            "/api/v3/api-docs",
-            "/api/swagger-resources",
-            "/api/swagger-ui.html",
-            "/api/webjars/", "/swagger-ui/index.html", "/v1/users/register", "/v3/api-docs",
-            "/swagger-ui/", "/swagger-resources", "swagger-ui.html",
-            "/ws/chat"  // 웹소켓 엔드포인트
-        );
-
-        String path = request.getRequestURI();
-        return excludePaths.stream().anyMatch(path::startsWith);
+        return jwtExcludePathMatcher.matches(request.getRequestURI());
     }
 
     @Override
@@ -52,7 +37,10 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
         String rawToken = request.getHeader("Authorization");
         String token = jwtValidator.validateFormAndRemoveBearer(rawToken);
 
-        Authentication authentication = jwtProvider.getAuthentication(token);
+        // 서명 검증은 요청당 1회
+        JwtClaims claims = jwtProvider.parseAccess(token);
+        request.setAttribute(CLAIMS_ATTRIBUTE, claims);
+        Authentication authentication = jwtProvider.getAuthentication(claims);
         SecurityContextHolder.getContext().setAuthentication(authentication);
 
         filterChain.doFilter(request, response);
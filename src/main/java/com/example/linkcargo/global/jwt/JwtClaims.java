@@ -0,0 +1,28 @@
+package com.example.linkcargo.global.jwt;
+
+import com.example.linkcargo.domain.user.Role;
+import io.jsonwebtoken.Claims;
+import java.util.Date;
+
+/**
+ * 검증된 JWT 의 클레임 - 토큰당 한 번만 파싱/서명 검증 후 필요한 값을 모두 담아 전달
+ */
+public record JwtClaims(
+    Long userId,
+    String email,
+    Role role, // 리프레시 토큰은 null - 엑세스 토큰은 parseAccess 에서 role 필수
+    Date expiration
+) {
+
+    static JwtClaims from(Claims claims) {
+        Object id = claims.get("id");
+        Object email = claims.get("email");
+        Object role = claims.get("role");
+        return new JwtClaims(
+            id == null ? null : ((Number) id).longValue(),
+            email == null ? null : email.toString(),
+            role == null ? null : Role.valueOf(role.toString()),
+            claims.getExpiration()
+        );
+    }
+}
@@ -0,0 +1,121 @@
+package com.example.linkcargo.global.jwt;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.TreeMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * JWT 인증이 필요없는 URL 접두사 매처
+ * 시작 시 한 번 접두사 트라이로 컴파일 - 요청마다 리스트 생성/순회 없이 경로 길이만큼만 탐색 (할당 없음)
+ */
+@Component
+public class JwtExcludePathMatcher {
+
+    // 인증 없이 접근 가능한 URL 접두사 (Security Context 에 사용자 정보 X)
+    static final List<String> DEFAULT_EXCLUDE_PATHS = List.of(
+        "/api/v1/users/register",
+        "/api/v1/users/login",
+        "/api/v1/users/refresh",
+        "/api/v1/ports",
+        "/api/v1/cargos/calculate",
+        "/api/v1/schedules/list",
+        "/api/swagger-ui/",
+        "/api/v3/api-docs",
+        "/api/swagger-resources",
+        "/api/swagger-ui.html",
+        "/api/webjars/",
+        "/swagger-ui/",
+        "/swagger-ui.html",
+        "/swagger-resources",
+        "/v3/api-docs",
+        "/v1/users/register",
+        "/ws/chat" // 웹소켓 엔드포인트
+    );
+
+    private final Node root;
+
+    public JwtExcludePathMatcher(@Value("${jwt.exclude-paths:}") String[] excludePaths) {
+        this(excludePaths.length == 0 ? DEFAULT_EXCLUDE_PATHS : Arrays.asList(excludePaths));
+    }
+
+    JwtExcludePathMatcher(List<String> excludePaths) {
+        MutableNode builder = new MutableNode();
+        for (String path : excludePaths) {
+            String prefix = path.trim();
+            if (!prefix.startsWith("/")) {
+                throw new IllegalArgumentException("Exclude path must start with '/': " + path);
+            }
+            builder.insert(prefix);
+        }
+        this.root = builder.compile();
+    }
+
+    /**
+     * 등록된 접두사 중 하나로 시작하는 경로인지 확인
+     */
+    public boolean matches(String path) {
+        if (path == null) {
+            return false;
+        }
+        Node node = root;
+        for (int i = 0; i < path.length(); i++) {
+            node = node.child(path.charAt(i));
+            if (node == null) {
+                return false;
+            }
+            if (node.terminal) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 컴파일된 노드 - 자식 문자를 정렬된 배열로 보관해 이진 탐색 (박싱 X)
+     */
+    private static final class Node {
+
+        private final boolean terminal;
+        private final char[] keys;
+        private final Node[] children;
+
+        private Node(boolean terminal, char[] keys, Node[] children) {
+            this.terminal = terminal;
+            this.keys = keys;
+            this.children = children;
+        }
+
+        private Node child(char c) {
+            int index = Arrays.binarySearch(keys, c);
+            return index < 0 ? null : children[index];
+        }
+    }
+
+    private static final class MutableNode {
+
+        private final TreeMap<Character, MutableNode> children = new TreeMap<>();
+        private boolean terminal;
+
+        private void insert(String prefix) {
+            MutableNode node = this;
+            for (int i = 0; i < prefix.length(); i++) {
+                node = node.children.computeIfAbsent(prefix.charAt(i), c -> new MutableNode());
+            }
+            node.terminal = true;
+        }
+
+        private Node compile() {
+            char[] keys = new char[children.size()];
+            Node[] compiled = new Node[children.size()];
+            int i = 0;
+            for (var entry : children.entrySet()) {
+                keys[i] = entry.getKey();
+                compiled[i] = entry.getValue().compile();
+                i++;
+            }
+            return new Node(terminal, keys, compiled);
+        }
+    }
+}
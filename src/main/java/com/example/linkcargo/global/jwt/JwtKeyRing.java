@@ -0,0 +1,207 @@
+package com.example.linkcargo.global.jwt;
+
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.Key;
+import java.security.KeyStore;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javax.crypto.SecretKey;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * JWT 서명 키 관리
+ * - 키 출처: 설정(jwt.keys) 또는 키스토어 파일(jwt.keystore.path), 둘 다 없으면 임시 키 생성 (단일 노드 개발용)
+ * - 서명: 활성화 시각이 지난 키 중 가장 최근 키, 토큰 헤더에 kid 기록
+ * - 검증: kid 로 키 조회 - 교체 후에도 이전 키로 서명된 토큰은 만료될 때까지 검증 가능
+ */
+@Slf4j
+@Component
+public class JwtKeyRing extends LocatorAdapter<Key> {
+
+    private final String configuredKeys;
+    private final String keystorePath;
+    private final char[] keystorePassword;
+    private final Duration retireAfter;
+
+    private volatile KeySnapshot snapshot;
+
+    public JwtKeyRing(
+        // "kid:base64Secret@2026-01-01T00:00:00Z" 형식, 쉼표로 구분 (활성화 시각 생략 시 즉시 활성)
+        @Value("${jwt.keys:}") String configuredKeys,
+        @Value("${jwt.keystore.path:}") String keystorePath,
+        @Value("${jwt.keystore.password:}") String keystorePassword,
+        // 새 키 활성화 후 이전 키를 검증에 유지하는 기간 - 리프레시 토큰 만료 기간 이상
+        @Value("${jwt.keys.retire-after-seconds:691200}") long retireAfterSeconds) {
+        this.configuredKeys = configuredKeys;
+        this.keystorePath = keystorePath;
+        this.keystorePassword = keystorePassword.toCharArray();
+        this.retireAfter = Duration.ofSeconds(retireAfterSeconds);
+
+        List<JwtSigningKey> keys = loadKeys();
+        if (keys.isEmpty()) {
+            log.warn("No JWT signing keys configured, generated an ephemeral key - "
+                + "tokens will not survive restarts or be shared between nodes");
+            keys = List.of(
+                new JwtSigningKey("ephemeral", Jwts.SIG.HS256.key().build(), Instant.EPOCH));
+        }
+        this.snapshot = KeySnapshot.of(keys, Instant.now(), retireAfter);
+        log.info("JWT signing key: {}", snapshot.current().kid());
+    }
+
+    /**
+     * 현재 서명 키
+     */
+    public JwtSigningKey current() {
+        return snapshot.current();
+    }
+
+    /**
+     * 검증 키 조회 - 알 수 없거나 폐기된 kid 는 서명 오류로 처리
+     */
+    @Override
+    protected Key locate(JwsHeader header) {
+        KeySnapshot keys = snapshot;
+        String kid = header.getKeyId();
+        JwtSigningKey key = (kid == null) ? null : keys.verificationKeys().get(kid);
+        if (key == null) {
+            throw new SignatureException("Unknown JWT key id: " + kid);
+        }
+        return key.secretKey();
+    }
+
+    /**
+     * 키 교체 - 키스토어를 다시 읽고 활성화 시각에 따라 서명 키를 교체, 보존 기간이 지난 키는 검증에서 제외
+     */
+    @Scheduled(fixedDelayString = "${jwt.keys.rotation-check-millis:60000}")
+    public void rotate() {
+        List<JwtSigningKey> keys;
+        try {
+            keys = loadKeys();
+        } catch (RuntimeException e) {
+            log.error("Failed to reload JWT keys, keeping current key ring", e);
+            return;
+        }
+        if (keys.isEmpty()) {
+            keys = new ArrayList<>(snapshot.verificationKeys().values()); // 임시 키 유지
+        }
+
+        KeySnapshot previous = snapshot;
+        snapshot = KeySnapshot.of(keys, Instant.now(), retireAfter);
+        if (!previous.current().kid().equals(snapshot.current().kid())) {
+            log.info("JWT signing key rotated: {} -> {}", previous.current().kid(),
+                snapshot.current().kid());
+        }
+    }
+
+    private List<JwtSigningKey> loadKeys() {
+        List<JwtSigningKey> keys = new ArrayList<>(parseConfiguredKeys());
+        if (!keystorePath.isBlank()) {
+            keys.addAll(readKeystore());
+        }
+        return keys;
+    }
+
+    private List<JwtSigningKey> parseConfiguredKeys() {
+        List<JwtSigningKey> keys = new ArrayList<>();
+        for (String entry : configuredKeys.split(",")) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            String[] keyAndActivation = entry.trim().split("@", 2);
+            String[] kidAndSecret = keyAndActivation[0].split(":", 2);
+            if (kidAndSecret.length != 2) {
+                throw new IllegalStateException("Invalid jwt.keys entry, expected kid:secret");
+            }
+            Instant activatesAt = (keyAndActivation.length == 2)
+                ? Instant.parse(keyAndActivation[1].trim()) : Instant.EPOCH;
+            SecretKey secretKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(kidAndSecret[1]));
+            keys.add(new JwtSigningKey(kidAndSecret[0].trim(), secretKey, activatesAt));
+        }
+        return keys;
+    }
+
+    /**
+     * 키스토어(PKCS12)의 비밀키 항목 - alias 를 kid, 생성 시각을 활성화 시각으로 사용
+     */
+    private List<JwtSigningKey> readKeystore() {
+        try (InputStream in = Files.newInputStream(Path.of(keystorePath))) {
+            KeyStore keyStore = KeyStore.getInstance("PKCS12");
+            keyStore.load(in, keystorePassword);
+
+            List<JwtSigningKey> keys = new ArrayList<>();
+            for (String alias : Collections.list(keyStore.aliases())) {
+                if (!keyStore.isKeyEntry(alias)) {
+                    continue;
+                }
+                Key key = keyStore.getKey(alias, keystorePassword);
+                if (key instanceof SecretKey secretKey) {
+                    Date created = keyStore.getCreationDate(alias);
+                    keys.add(new JwtSigningKey(alias, Keys.hmacShaKeyFor(secretKey.getEncoded()),
+                        created == null ? Instant.EPOCH : created.toInstant()));
+                }
+            }
+            return keys;
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to load JWT keystore: " + keystorePath, e);
+        }
+    }
+
+    public record JwtSigningKey(
+        String kid,
+        SecretKey secretKey,
+        Instant activatesAt
+    ) {
+
+    }
+
+    record KeySnapshot(
+        JwtSigningKey current,
+        Map<String, JwtSigningKey> verificationKeys
+    ) {
+
+        static KeySnapshot of(List<JwtSigningKey> keys, Instant now, Duration retireAfter) {
+            List<JwtSigningKey> sorted = keys.stream()
+                .sorted(Comparator.comparing(JwtSigningKey::activatesAt))
+                .toList();
+
+            // 활성화된 키 중 가장 최근 키로 서명 - 아직 활성화 전이면 가장 이른 키 사용
+            JwtSigningKey current = sorted.get(0);
+            for (JwtSigningKey key : sorted) {
+                if (!key.activatesAt().isAfter(now)) {
+                    current = key;
+                }
+            }
+
+            // 다음 키가 활성화된 지 retireAfter 가 지난 키는 더 이상 유효한 토큰이 없으므로 제외
+            Map<String, JwtSigningKey> verificationKeys = new HashMap<>();
+            for (int i = 0; i < sorted.size(); i++) {
+                JwtSigningKey key = sorted.get(i);
+                boolean retired = i + 1 < sorted.size()
+                    && sorted.get(i + 1).activatesAt().plus(retireAfter).isBefore(now)
+                    && key != current;
+                if (!retired) {
+                    verificationKeys.put(key.kid(), key);
+                }
+            }
+            return new KeySnapshot(current, Map.copyOf(verificationKeys));
+        }
+    }
+}
@@ -1,49 +1,61 @@
 package com.example.linkcargo.global.jwt;
 
+import com.example.linkcargo.domain.user.Role;
+import com.example.linkcargo.global.jwt.JwtKeyRing.JwtSigningKey;
 import com.example.linkcargo.global.response.code.resultCode.ErrorStatus;
 import com.example.linkcargo.global.response.exception.handler.JwtHandler;
 import com.example.linkcargo.global.security.CustomUserDetail;
-import com.example.linkcargo.global.security.CustomUserDetailsService;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.PrematureJwtException;
-import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.UnsupportedJwtException;
-import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.SignatureException;
-import java.security.Key;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.Date;
-import lombok.RequiredArgsConstructor;
+import java.util.UUID;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
-@Transactional
 public class JwtProvider {
 
-    private final CustomUserDetailsService customUserDetailsService;
+    // 토큰 종류 클레임 - 리프레시 토큰을 Bearer 엑세스 토큰으로 사용하는 것을 차단
+    private static final String TOKEN_TYPE_CLAIM = "typ";
+    private static final String ACCESS_TOKEN_TYPE = "access";
+    private static final String REFRESH_TOKEN_TYPE = "refresh";
+
+    private final JwtKeyRing jwtKeyRing;
     private long ACCESS_EXPIRATION_TIME = 1000 * 60 * 60 * 24; // 1 day
     private long REFRESH_EXPIRATION_TIME = 1000 * 60 * 60 * 24 * 7; //  1 week
-    private Key secretKey = Keys.secretKeyFor(SignatureAlgorithm.HS256);
+    // 불변/스레드 안전 - 요청마다 새로 생성하지 않고 재사용, 검증 키는 헤더의 kid 로 키 링에서 조회
+    private final JwtParser jwtParser;
+
+    public JwtProvider(JwtKeyRing jwtKeyRing) {
+        this.jwtKeyRing = jwtKeyRing;
+        this.jwtParser = Jwts.parser().keyLocator(jwtKeyRing).build();
+    }
 
     /**
      * JWT ACCESS 토큰 생성
      */
-    public String generateAccessToken(Long userId, String email) {
-        log.info("generateToken 메서드 시작");
+    public String generateAccessToken(Long userId, String email, Role role) {
+        JwtSigningKey signingKey = jwtKeyRing.current();
         return Jwts.builder()
+            .header().keyId(signingKey.kid()).and()
+            .claim(TOKEN_TYPE_CLAIM, ACCESS_TOKEN_TYPE)
             .claim("id", userId)
             .claim("email", email)
+            .claim("role", role.name()) // 요청마다 DB 조회 없이 권한 확인
             .issuedAt(new Date())
             .expiration(new Date(System.currentTimeMillis() + ACCESS_EXPIRATION_TIME))
-            .signWith(secretKey)
+            .signWith(signingKey.secretKey())
             .compact();
     }
 
@@ -51,26 +63,60 @@ public class JwtProvider {
      * JWT REFRESH 토큰 생성
      */
     public String generateRefreshToken(Long userId, String email) {
+        JwtSigningKey signingKey = jwtKeyRing.current();
         return Jwts.builder()
+            .header().keyId(signingKey.kid()).and()
+            .id(UUID.randomUUID().toString()) // 같은 시각에 발급되어도 토큰(해시)이 겹치지 않도록
+            .claim(TOKEN_TYPE_CLAIM, REFRESH_TOKEN_TYPE)
             .claim("id", userId)
             .claim("email", email)
             .issuedAt(new Date())
             .expiration(new Date(System.currentTimeMillis() + REFRESH_EXPIRATION_TIME))
-            .signWith(secretKey)
+            .signWith(signingKey.secretKey())
             .compact();
     }
 
+    /**
+     * 지금 발급하는 리프레시 토큰의 만료 시각
+     */
+    public LocalDateTime getRefreshTokenExpiresAt() {
+        return LocalDateTime.now().plus(REFRESH_EXPIRATION_TIME, ChronoUnit.MILLIS);
+    }
+
     /********* 엑세스/리프레시 토큰의 유효성에 따른 에러를 각각 발생시키기 위해 함수 분리 *********/
+    /**
+     * (엑세스 토큰) 서명 검증 후 클레임 추출 - 요청당 1회만 호출
+     * role 클레임이 없거나 typ 이 access 가 아닌 토큰(리프레시 토큰, role 추가 전 토큰)은 거부
+     */
+    public JwtClaims parseAccess(String accessToken) {
+        Claims claims = getClaimsBodyFromAccess(accessToken);
+        Object type = claims.get(TOKEN_TYPE_CLAIM);
+        if (claims.get("role") == null
+            || (type != null && !ACCESS_TOKEN_TYPE.equals(type.toString()))) {
+            throw new JwtHandler(ErrorStatus.INVALID_ACCESS_TOKEN);
+        }
+        return JwtClaims.from(claims);
+    }
+
+    /**
+     * (리프레시 토큰) 서명 검증 후 클레임 추출 - 엑세스 토큰(role, typ=access)은 거부
+     */
+    public JwtClaims parseRefresh(String refreshToken) {
+        Claims claims = getClaimsBodyFromRefresh(refreshToken);
+        Object type = claims.get(TOKEN_TYPE_CLAIM);
+        if (claims.get("role") != null
+            || (type != null && !REFRESH_TOKEN_TYPE.equals(type.toString()))) {
+            throw new JwtHandler(ErrorStatus.INVALID_REFRESH_TOKEN);
+        }
+        return JwtClaims.from(claims);
+    }
+
     /**
      * (엑세스 토큰) JWT 에서 Claims 추출
      */
     public Claims getClaimsBodyFromAccess(String accessToken) {
         try {
-            return Jwts.parser()
-                .setSigningKey(secretKey)
-                .build()
-                .parseClaimsJws(accessToken)
-                .getBody();
+            return jwtParser.parseSignedClaims(accessToken).getPayload();
         } catch (SignatureException e) {
             throw new JwtHandler(ErrorStatus.INVALID_ACCESS_TOKEN);
         } catch (MalformedJwtException e) {
@@ -91,11 +137,7 @@ public class JwtProvider {
      */
     public Claims getClaimsBodyFromRefresh(String refreshToken) {
         try {
-            return Jwts.parser()
-                .setSigningKey(secretKey)
-                .build()
-                .parseClaimsJws(refreshToken)
-                .getBody();
+            return jwtParser.parseSignedClaims(refreshToken).getPayload();
         } catch (SignatureException e) {
             throw new JwtHandler(ErrorStatus.INVALID_REFRESH_TOKEN);
         } catch (MalformedJwtException e) {
@@ -112,65 +154,16 @@ public class JwtProvider {
     }
 
     /**
-     * (엑세스 토큰) 현재 로그인한 사용자 ID 추출
+     * (인가) Authorization 객체 생성 - 서명된 클레임(id, email, role)으로 Principal 생성
      */
-    public Long getIdFromAccess(String accessToken) {
-        Claims claimsBody = getClaimsBodyFromAccess(accessToken);
-
-        Long userId =
-            (claimsBody.get("id") instanceof Integer) ? Long.valueOf((Integer) claimsBody.get("id"))
-                : (Long) claimsBody.get("id");
-
-        return userId;
-    }
-
-    /**
-     * (리프레시 토큰) 현재 로그인한 사용자 ID 추출
-     */
-    public Long getIdFromRefresh(String refreshToken) {
-        Claims claimsBody = getClaimsBodyFromRefresh(refreshToken);
-
-        Long userId =
-            (claimsBody.get("id") instanceof Integer) ? Long.valueOf((Integer) claimsBody.get("id"))
-                : (Long) claimsBody.get("id");
-
-        return userId;
-    }
-
-    /**
-     * (엑세스 토큰) 현재 로그인한 사용자 Email 추출
-     */
-    public String getEmailFromAccess(String accessToken) {
-        Claims claimsBody = getClaimsBodyFromAccess(accessToken);
-
-        return claimsBody.get("email").toString();
-    }
-
-    /**
-     * (리프레시 토큰) 현재 로그인한 사용자 Email 추출
-     */
-    public String getEmailFromRefresh(String refreshToken) {
-        Claims claimsBody = getClaimsBodyFromRefresh(refreshToken);
-
-        return claimsBody.get("email").toString();
-    }
-
-    /**
-     * JWT 만료 기간 추출
-     */
-    public Date getExpiration(String token) { // 리프레시 토큰에서만 사용되는 메서드
-        Claims claimsBody = getClaimsBodyFromRefresh(token);
-        return claimsBody.getExpiration();
-    }
-
-    /**
-     * (인가) Authorization 객체 생성
-     */
-    public Authentication getAuthentication(String token) {
-        CustomUserDetail customUserDetail = customUserDetailsService.loadUserByUsername(
-            getEmailFromAccess(token));
+    public Authentication getAuthentication(JwtClaims claims) {
+        if (claims.role() == null) {
+            throw new JwtHandler(ErrorStatus.INVALID_ACCESS_TOKEN);
+        }
+        CustomUserDetail customUserDetail =
+            new CustomUserDetail(claims.userId(), claims.email(), claims.role());
 
-        return new UsernamePasswordAuthenticationToken(customUserDetail,
-            customUserDetail.getPassword(), customUserDetail.getAuthorities());
+        return new UsernamePasswordAuthenticationToken(customUserDetail, null,
+            customUserDetail.getAuthorities());
     }
-}
\ No newline at end of file
+}
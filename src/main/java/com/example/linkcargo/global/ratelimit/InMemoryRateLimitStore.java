@@ -0,0 +1,147 @@
+package com.example.linkcargo.global.ratelimit;
+
+import com.example.linkcargo.global.ratelimit.RateLimitStore.ConsumeResult;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 인스턴스 메모리 토큰 버킷 (기본값)
+ * 버킷 상태는 GCRA 방식의 "다음 토큰 도착 예정 시각" 하나만 AtomicLong 으로 보관 - CAS 로 갱신하므로 락/할당 없음
+ * ConcurrentHashMap 이 키별로 분산되어 있어 서로 다른 클라이언트 간 경합도 없음
+ * 버킷 수가 max-buckets 에 도달하면 새 키는 IP 대역(IPv4 /24, IPv6 /64)별 버킷을 함께 사용 - 정리는 스케줄러만 수행
+ * 대역 버킷은 여러 클라이언트가 나눠 쓰므로 허용량을 overflow-capacity-multiplier 배로 늘림
+ * 대역 버킷도 max-overflow-buckets 에 도달하면(또는 IP 가 아닌 키) 정책별 공용 버킷 하나로 제한
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "rate-limit.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryRateLimitStore implements RateLimitStore {
+
+    private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+    private final Map<String, Bucket> overflowBuckets = new ConcurrentHashMap<>(); // IP 대역/정책별 공용 버킷
+
+    @Value("${rate-limit.max-buckets:100000}")
+    private int maxBuckets;
+
+    @Value("${rate-limit.max-overflow-buckets:10000}")
+    private int maxOverflowBuckets;
+
+    @Value("${rate-limit.overflow-capacity-multiplier:10}")
+    private int overflowCapacityMultiplier; // 공용 버킷의 버킷 크기/회복 속도 배수
+
+    @Override
+    public ConsumeResult tryConsume(String bucketKey, RateLimitPolicy policy) {
+        long now = System.nanoTime();
+        Bucket bucket = buckets.get(bucketKey);
+        if (bucket == null) {
+            // 상한 초과 - 키를 더 만들지 않고 공용 버킷으로 제한 (size() 는 근사값이라 약간 넘을 수 있음)
+            bucket = (buckets.size() >= maxBuckets)
+                ? overflowBucket(bucketKey, policy, now)
+                : buckets.computeIfAbsent(bucketKey, key -> new Bucket(policy, 1, now));
+        }
+        return bucket.tryConsume(now);
+    }
+
+    private Bucket overflowBucket(String bucketKey, RateLimitPolicy policy, long now) {
+        String overflowKey = overflowKey(policy, bucketKey);
+        Bucket bucket = overflowBuckets.get(overflowKey);
+        if (bucket != null) {
+            return bucket;
+        }
+        if (overflowBuckets.size() >= maxOverflowBuckets) {
+            overflowKey = policy.name();
+        }
+        return overflowBuckets.computeIfAbsent(overflowKey,
+            key -> new Bucket(policy, overflowCapacityMultiplier, now));
+    }
+
+    /**
+     * bucketKey("정책:ip:주소") 의 IP 대역 키 - IP 가 아니거나 해석할 수 없으면 정책 이름
+     */
+    static String overflowKey(RateLimitPolicy policy, String bucketKey) {
+        String ipPrefix = policy.name() + ":ip:";
+        if (!bucketKey.startsWith(ipPrefix)) {
+            return policy.name();
+        }
+        String address = bucketKey.substring(ipPrefix.length());
+        if (address.indexOf(':') < 0) {
+            int lastDot = address.lastIndexOf('.');
+            return lastDot < 0 ? policy.name() : ipPrefix + address.substring(0, lastDot) + ".0/24";
+        }
+        try {
+            // ':' 가 포함된 문자열은 IPv6 리터럴로만 해석됨 (DNS 조회 없음)
+            byte[] bytes = InetAddress.getByName(address).getAddress();
+            if (bytes.length == 4) {
+                // IPv4-mapped 주소
+                return ipPrefix + (bytes[0] & 0xff) + "." + (bytes[1] & 0xff) + "."
+                    + (bytes[2] & 0xff) + ".0/24";
+            }
+            StringBuilder prefix = new StringBuilder(ipPrefix);
+            for (int i = 0; i < 8; i += 2) {
+                prefix.append(Integer.toHexString(((bytes[i] & 0xff) << 8) | (bytes[i + 1] & 0xff)))
+                    .append(':');
+            }
+            return prefix.append(":/64").toString();
+        } catch (UnknownHostException e) {
+            return policy.name();
+        }
+    }
+
+    @Override
+    public int size() {
+        return buckets.size();
+    }
+
+    /**
+     * 가득 찬(오래 사용되지 않은) 버킷 제거 - 다시 요청이 오면 가득 찬 상태로 새로 생성되므로 결과는 동일
+     */
+    @Scheduled(fixedDelayString = "${rate-limit.evict-interval-millis:60000}")
+    public void evictIdleBuckets() {
+        long now = System.nanoTime();
+        buckets.values().removeIf(bucket -> bucket.isFull(now));
+        overflowBuckets.values().removeIf(bucket -> bucket.isFull(now));
+    }
+
+    /**
+     * GCRA 버킷 - 시각은 호출자가 System.nanoTime() 기준으로 전달
+     * multiplier 배만큼 버킷 크기와 회복 속도를 함께 늘림 (공용 버킷용, 기본 1)
+     */
+    static final class Bucket {
+
+        private final long emissionIntervalNanos;
+        private final long burstToleranceNanos;
+        private final AtomicLong theoreticalArrivalNanos;
+
+        Bucket(RateLimitPolicy policy, int multiplier, long now) {
+            this.emissionIntervalNanos = Math.max(1, policy.emissionIntervalNanos() / multiplier);
+            this.burstToleranceNanos = emissionIntervalNanos * (policy.capacity() * multiplier - 1);
+            this.theoreticalArrivalNanos = new AtomicLong(now);
+        }
+
+        ConsumeResult tryConsume(long now) {
+            while (true) {
+                long tat = theoreticalArrivalNanos.get();
+                long base = Math.max(tat, now);
+                long wait = base - now - burstToleranceNanos;
+                if (wait > 0) {
+                    return new ConsumeResult(false, wait);
+                }
+                if (theoreticalArrivalNanos.compareAndSet(tat, base + emissionIntervalNanos)) {
+                    return ConsumeResult.ALLOWED;
+                }
+            }
+        }
+
+        boolean isFull(long now) {
+            return theoreticalArrivalNanos.get() - now <= 0;
+        }
+    }
+}
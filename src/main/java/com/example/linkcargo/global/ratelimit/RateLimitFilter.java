@@ -0,0 +1,63 @@
+package com.example.linkcargo.global.ratelimit;
+
+import com.example.linkcargo.global.ratelimit.RateLimitStore.ConsumeResult;
+import com.example.linkcargo.global.response.ErrorResponseWriter;
+import com.example.linkcargo.global.response.code.resultCode.ErrorStatus;
+import com.example.linkcargo.global.security.CustomUserDetail;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * 요청 속도 제한 필터 - JWT 필터 다음에 실행되어 로그인 유저는 유저 ID, 그 외는 IP 기준으로 제한
+ * 초과 시 429 + Retry-After(초)
+ */
+@RequiredArgsConstructor
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimiter rateLimiter;
+    private final ErrorResponseWriter errorResponseWriter;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+        FilterChain filterChain) throws ServletException, IOException {
+
+        RateLimitPolicy policy = rateLimiter.findPolicy(request.getRequestURI());
+        if (policy == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        ConsumeResult result = rateLimiter.tryConsume(policy, clientKey(request));
+        if (!result.allowed()) {
+            long retryAfterSeconds = Math.max(1,
+                TimeUnit.NANOSECONDS.toSeconds(result.retryAfterNanos() + 999_999_999L));
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+            errorResponseWriter.write(response, ErrorStatus.RATE_LIMIT_EXCEEDED);
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    /**
+     * 로그인 유저는 유저 ID, 그 외에는 요청의 원격 주소로 구분
+     * 로드 밸런서 뒤에서는 server.forward-headers-strategy 를 설정해 신뢰하는 프록시의 X-Forwarded-For 로
+     * getRemoteAddr 가 실제 클라이언트 주소가 되도록 해야 함 - 헤더를 직접 읽으면 클라이언트가 위조 가능
+     */
+    private String clientKey(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null
+            && authentication.getPrincipal() instanceof CustomUserDetail userDetail) {
+            return "user:" + userDetail.getId();
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.linkcargo.global.ratelimit;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 경로별 요청 허용량 - 버킷 크기(capacity)만큼 연속 요청 허용, 이후 초당 refillPerSecond 개씩 회복
+ */
+public record RateLimitPolicy(
+    String name,
+    String pathPrefix,
+    long capacity,
+    double refillPerSecond
+) {
+
+    /**
+     * "name:/path/prefix:capacity:refillPerSecond" 형식, 쉼표로 구분
+     */
+    static List<RateLimitPolicy> parse(String policies) {
+        List<RateLimitPolicy> parsed = new ArrayList<>();
+        for (String entry : policies.split(",")) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            String[] fields = entry.trim().split(":");
+            if (fields.length != 4 || !fields[1].startsWith("/")) {
+                throw new IllegalArgumentException(
+                    "Invalid rate-limit.policies entry, expected name:/path:capacity:refillPerSecond: "
+                        + entry);
+            }
+            parsed.add(new RateLimitPolicy(fields[0], fields[1], Long.parseLong(fields[2]),
+                Double.parseDouble(fields[3])));
+        }
+        return parsed;
+    }
+
+    /**
+     * 토큰 1개가 회복되는 간격 (ns)
+     */
+    long emissionIntervalNanos() {
+        return (long) (1_000_000_000d / refillPerSecond);
+    }
+}
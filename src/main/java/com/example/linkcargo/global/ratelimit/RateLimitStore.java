@@ -0,0 +1,26 @@
+package com.example.linkcargo.global.ratelimit;
+
+/**
+ * 토큰 버킷 저장소 - 기본은 인스턴스 메모리, 여러 노드가 허용량을 공유해야 하면 공유 저장소 구현으로 교체
+ * (rate-limit.store 설정으로 선택)
+ */
+public interface RateLimitStore {
+
+    /**
+     * bucketKey 버킷에서 토큰 1개 소비 시도
+     */
+    ConsumeResult tryConsume(String bucketKey, RateLimitPolicy policy);
+
+    /**
+     * 현재 보관 중인 버킷 수
+     */
+    int size();
+
+    record ConsumeResult(
+        boolean allowed,
+        long retryAfterNanos // 거절 시 다음 토큰까지 남은 시간
+    ) {
+
+        static final ConsumeResult ALLOWED = new ConsumeResult(true, 0);
+    }
+}
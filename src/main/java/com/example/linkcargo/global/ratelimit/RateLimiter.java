@@ -0,0 +1,67 @@
+package com.example.linkcargo.global.ratelimit;
+
+import com.example.linkcargo.global.ratelimit.RateLimitStore.ConsumeResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 경로별 요청 속도 제한 - 설정된 정책의 경로에만 적용, 클라이언트(유저 ID 또는 IP) 단위 버킷
+ */
+@Slf4j
+@Component
+public class RateLimiter {
+
+    private final RateLimitStore rateLimitStore;
+    private final List<RateLimitPolicy> policies;
+    private final Map<String, Counter> allowedCounters = new HashMap<>();
+    private final Map<String, Counter> rejectedCounters = new HashMap<>();
+
+    public RateLimiter(RateLimitStore rateLimitStore, MeterRegistry meterRegistry,
+        // 로그인 없이 호출 가능한 연산/조회 API 기본 보호
+        @Value("${rate-limit.policies:cargo-calculate:/api/v1/cargos/calculate:20:5,"
+            + "schedule-list:/api/v1/schedules/list:30:10}") String policies) {
+        this.rateLimitStore = rateLimitStore;
+        this.policies = RateLimitPolicy.parse(policies);
+
+        for (RateLimitPolicy policy : this.policies) {
+            allowedCounters.put(policy.name(), Counter.builder("rate.limit.requests")
+                .tag("policy", policy.name())
+                .tag("result", "allowed")
+                .register(meterRegistry));
+            rejectedCounters.put(policy.name(), Counter.builder("rate.limit.requests")
+                .tag("policy", policy.name())
+                .tag("result", "rejected")
+                .register(meterRegistry));
+            log.info("Rate limit policy: {} {} capacity={} refill={}/s", policy.name(),
+                policy.pathPrefix(), policy.capacity(), policy.refillPerSecond());
+        }
+        Gauge.builder("rate.limit.buckets", rateLimitStore, RateLimitStore::size)
+            .description("Client buckets currently tracked")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 경로에 적용되는 정책 - 없으면 null (제한 없음)
+     */
+    public RateLimitPolicy findPolicy(String path) {
+        for (RateLimitPolicy policy : policies) {
+            if (path.startsWith(policy.pathPrefix())) {
+                return policy;
+            }
+        }
+        return null;
+    }
+
+    public ConsumeResult tryConsume(RateLimitPolicy policy, String clientKey) {
+        ConsumeResult result = rateLimitStore.tryConsume(policy.name() + ":" + clientKey, policy);
+        (result.allowed() ? allowedCounters : rejectedCounters).get(policy.name()).increment();
+        return result;
+    }
+}
@@ -1,18 +1,22 @@
 package com.example.linkcargo.global.resolver;
 
-import com.example.linkcargo.global.response.code.BaseErrorCode;
+import com.example.linkcargo.global.response.ErrorResponseWriter;
 import com.example.linkcargo.global.response.exception.handler.JwtHandler;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
-import org.springframework.http.MediaType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+@Slf4j
+@RequiredArgsConstructor
 public class ExceptionHandlerFilter extends OncePerRequestFilter {
 
+    private final ErrorResponseWriter errorResponseWriter;
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
         FilterChain filterChain) throws ServletException, IOException {
@@ -20,37 +24,8 @@ public class ExceptionHandlerFilter extends OncePerRequestFilter {
         try {
             filterChain.doFilter(request, response);
         } catch (JwtHandler e) {
-            System.out.println(e.getCode());
-            System.out.println(e.getCode().getReason());
-            System.out.println(e.getCode().getReasonHttpStatus().getHttpStatus());
-
-            setErrorResponse(response, e.getCode());
-        }
-    }
-
-    private void setErrorResponse(
-        HttpServletResponse response,
-        BaseErrorCode errorCode
-    ) {
-        ObjectMapper objectMapper = new ObjectMapper();
-        response.setStatus(errorCode.getReasonHttpStatus().getHttpStatus().value());
-        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
-        response.setCharacterEncoding("UTF-8");
-
-        ErrorResponse errorResponse = new ErrorResponse(false, errorCode.getReason().getCode(),
-            errorCode.getReason().getMessage());
-        try {
-            response.getWriter().write(objectMapper.writeValueAsString(errorResponse));
-        } catch (IOException e) {
-            e.printStackTrace();
+            log.debug("JWT error: {} {}", e.getCode(), request.getRequestURI());
+            errorResponseWriter.write(response, e.getCode());
         }
     }
-
-    public record ErrorResponse(
-        boolean isSuccess,
-        String code,
-        String msg
-    ) {
-
-    }
 }
@@ -1,15 +1,21 @@
 package com.example.linkcargo.global.resolver;
 
-import com.example.linkcargo.global.security.CustomUserDetail;
+import com.example.linkcargo.global.jwt.JwtAuthorizationFilter;
+import com.example.linkcargo.global.jwt.JwtClaims;
+import com.example.linkcargo.global.response.code.resultCode.ErrorStatus;
+import com.example.linkcargo.global.response.exception.handler.JwtHandler;
 import lombok.RequiredArgsConstructor;
 import org.springframework.core.MethodParameter;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.bind.support.WebDataBinderFactory;
 import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.method.support.ModelAndViewContainer;
 
+/**
+ * @Login 파라미터 해석 - JwtAuthorizationFilter 가 요청에 저장한 검증된 클레임으로 LoginInfo 생성 (DB 조회 X)
+ */
 @Component
 @RequiredArgsConstructor
 public class JwtAuthorizationArgumentResolver implements HandlerMethodArgumentResolver {
@@ -23,12 +29,12 @@ public class JwtAuthorizationArgumentResolver implements HandlerMethodArgumentRe
     public LoginInfo resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
         NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
 
-        CustomUserDetail userDetails = (CustomUserDetail) SecurityContextHolder.getContext()
-            .getAuthentication().getPrincipal();
-        System.out.println("userDetails = " + userDetails);
-        Long userId = userDetails.getId();
-        String email = userDetails.getUsername();
-
-        return new LoginInfo(userId, email);
+        Object claims = webRequest.getAttribute(JwtAuthorizationFilter.CLAIMS_ATTRIBUTE,
+            RequestAttributes.SCOPE_REQUEST);
+        if (!(claims instanceof JwtClaims jwtClaims)) {
+            // 인증 제외 경로 등 토큰 검증을 거치지 않은 요청
+            throw new JwtHandler(ErrorStatus.MALFORMED_ACCESS_TOKEN);
+        }
+        return new LoginInfo(jwtClaims.userId(), jwtClaims.email());
     }
 }
@@ -0,0 +1,81 @@
+package com.example.linkcargo.global.response;
+
+import com.example.linkcargo.global.response.code.BaseErrorCode;
+import com.example.linkcargo.global.response.code.ErrorReasonDto;
+import com.example.linkcargo.global.response.code.resultCode.ErrorStatus;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+/**
+ * 필터 단계(컨트롤러 밖) 에러 응답 작성
+ * ErrorStatus 별 응답 본문을 시작 시 미리 직렬화해 요청마다 직렬화/할당 없이 바로 출력, 에러 코드별 횟수 집계
+ */
+@Component
+public class ErrorResponseWriter {
+
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final Map<ErrorStatus, byte[]> bodies = new EnumMap<>(ErrorStatus.class);
+    private final Map<ErrorStatus, Counter> counters = new EnumMap<>(ErrorStatus.class);
+
+    public ErrorResponseWriter(ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        for (ErrorStatus status : ErrorStatus.values()) {
+            bodies.put(status, serialize(status.getCode(), status.getMessage()));
+            counters.put(status, counter(status.getCode()));
+        }
+    }
+
+    public void write(HttpServletResponse response, BaseErrorCode errorCode) throws IOException {
+        int httpStatus;
+        byte[] body;
+        if (errorCode instanceof ErrorStatus status) {
+            httpStatus = status.getHttpStatus().value();
+            body = bodies.get(status);
+            counters.get(status).increment();
+        } else {
+            ErrorReasonDto reason = errorCode.getReasonHttpStatus();
+            httpStatus = reason.getHttpStatus().value();
+            body = serialize(reason.getCode(), reason.getMessage());
+            counter(reason.getCode()).increment();
+        }
+
+        response.setStatus(httpStatus);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    private byte[] serialize(String code, String message) {
+        try {
+            return objectMapper.writeValueAsBytes(new ErrorResponse(false, code, message));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize error response: " + code, e);
+        }
+    }
+
+    private Counter counter(String code) {
+        return Counter.builder("http.filter.errors")
+            .description("Error responses written before reaching a controller")
+            .tag("code", code)
+            .register(meterRegistry);
+    }
+
+    public record ErrorResponse(
+        boolean isSuccess,
+        String code,
+        String msg
+    ) {
+
+    }
+}
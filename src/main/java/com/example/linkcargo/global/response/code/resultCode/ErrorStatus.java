@@ -13,6 +13,7 @@ import org.springframework.http.HttpStatus;
 public enum ErrorStatus implements BaseErrorCode {
     // Global
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "GLOBAL501", "서버 오류"),
+    RATE_LIMIT_EXCEEDED(HttpStatus.TOO_MANY_REQUESTS, "GLOBAL429", "요청이 너무 많습니다. 잠시 후 다시 시도해주세요."),
 
 
     // User
@@ -20,6 +21,7 @@ public enum ErrorStatus implements BaseErrorCode {
     USER_EXISTS_BUSINESS_NUMBER(HttpStatus.BAD_REQUEST, "USER402", "중복된 사업자번호입니다."),
     USER_NOT_FOUND(HttpStatus.BAD_REQUEST, "USER403", "해당 정보의 유저를 찾을 수 없습니다."),
     USER_PROFILE_UPLOAD_FAIL(HttpStatus.INTERNAL_SERVER_ERROR,"USER404",  "프로필 업로드에 실패했습니다."),
+    USER_LOGIN_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "USER405", "로그인 요청이 많습니다. 잠시 후 다시 시도해주세요."),
 
     // JWT
     INVALID_ACCESS_TOKEN(HttpStatus.UNAUTHORIZED, "AUTH401", "서명이 잘못된 엑세스 토큰입니다."),
@@ -36,6 +38,7 @@ public enum ErrorStatus implements BaseErrorCode {
     ILLEGAL_ARGUMENT_REFRESH_TOKEN(HttpStatus.UNAUTHORIZED, "AUTH4011", "잘못된 값이 포함된 리프레시 토큰입니다."),
     PREMATURE_REFRESH_TOKEN(HttpStatus.UNAUTHORIZED, "AUTH4012", "아직 사용이 가능하지 않은 리프레시 토큰입니다."),
     REFRESH_TOKEN_NOT_FOUND(HttpStatus.UNAUTHORIZED, "AUTH4013", "DB의 리프레시 토큰과 일치하지 않는 리프레시 토큰입니다."),
+    REUSED_REFRESH_TOKEN(HttpStatus.UNAUTHORIZED, "AUTH4014", "이미 사용된 리프레시 토큰입니다. 다시 로그인해주세요."),
 
     // Cargo
     INVALID_CARGO_INPUT(HttpStatus.BAD_REQUEST, "CARGO401", "유효하지 않은 CARGO 입력 정보입니다."),
@@ -71,6 +74,7 @@ public enum ErrorStatus implements BaseErrorCode {
 
     // Notification
     NOTIFICATION_NOT_FOUND(HttpStatus.NOT_FOUND, "NOTIFICATION401", "알림이 존재 하지 않습니다."),
+    NOTIFICATION_FANOUT_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "NOTIFICATION402", "진행 중인 전체 알림 발송이 많습니다. 잠시 후 다시 시도해주세요."),
 
 
     // S3
@@ -87,6 +91,10 @@ public enum ErrorStatus implements BaseErrorCode {
 
     // CHAT
     CHAT_FILE_UPLOAD_FAIL(HttpStatus.INTERNAL_SERVER_ERROR, "CHAT401","파일 업로드에 살패했습니다."),
+    CHAT_ROOM_ACCESS_DENIED(HttpStatus.FORBIDDEN, "CHAT402", "채팅방에 참여하지 않은 사용자입니다."),
+    CHAT_FILE_NOT_FOUND(HttpStatus.NOT_FOUND, "CHAT403", "업로드된 파일이 존재하지 않습니다."),
+    CHAT_FILE_ALREADY_CONFIRMED(HttpStatus.CONFLICT, "CHAT404", "이미 등록된 파일입니다."),
+    CHAT_PRESENCE_TOO_MANY_USERS(HttpStatus.BAD_REQUEST, "CHAT405", "한 번에 조회할 수 있는 유저 수를 초과했습니다."),
 
     // ETC
     EXTERNAL_API_ERROR(HttpStatus.BAD_REQUEST, "ETC401", "외부 API 호출 오류"),
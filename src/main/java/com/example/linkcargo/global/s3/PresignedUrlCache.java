@@ -0,0 +1,75 @@
+package com.example.linkcargo.global.s3;
+
+import com.amazonaws.HttpMethod;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * presigned GET URL 캐시
+ * 필요할 때 생성하고, 만료 직전(refresh-margin)까지 같은 URL 을 재사용
+ */
+@Component
+@RequiredArgsConstructor
+public class PresignedUrlCache {
+
+    private final AmazonS3 amazonS3;
+    private final Map<String, CachedUrl> cache = new ConcurrentHashMap<>();
+
+    @Value("${cloud.aws.s3.presigned-url.ttl-seconds:3600}")
+    private long ttlSeconds; // presigned URL 유효 기간
+
+    @Value("${cloud.aws.s3.presigned-url.refresh-margin-seconds:300}")
+    private long refreshMarginSeconds; // 만료 몇 초 전부터 새로 생성할지
+
+    @Value("${cloud.aws.s3.presigned-url.max-entries:10000}")
+    private int maxEntries;
+
+    public String getUrl(String bucket, String key) {
+        long now = System.currentTimeMillis();
+        CachedUrl cached = cache.compute(bucket + "/" + key, (cacheKey, existing) ->
+            (existing != null && existing.isFresh(now, refreshMarginSeconds * 1000))
+                ? existing
+                : generate(bucket, key, now));
+        if (cache.size() > maxEntries) {
+            evictExpired(now);
+        }
+        return cached.url();
+    }
+
+    /**
+     * 객체가 교체/삭제된 경우 캐시 제거
+     */
+    public void evict(String bucket, String key) {
+        cache.remove(bucket + "/" + key);
+    }
+
+    private CachedUrl generate(String bucket, String key, long now) {
+        Date expiration = new Date(now + ttlSeconds * 1000);
+        GeneratePresignedUrlRequest generatePresignedUrlRequest =
+            new GeneratePresignedUrlRequest(bucket, key)
+                .withMethod(HttpMethod.GET)
+                .withExpiration(expiration);
+        return new CachedUrl(amazonS3.generatePresignedUrl(generatePresignedUrlRequest).toString(),
+            expiration.getTime());
+    }
+
+    private void evictExpired(long now) {
+        cache.values().removeIf(cached -> !cached.isFresh(now, refreshMarginSeconds * 1000));
+        if (cache.size() > maxEntries) {
+            cache.clear(); // 유효한 항목만으로도 가득 찬 경우 - 다시 생성하면 되므로 전체 비움
+        }
+    }
+
+    private record CachedUrl(String url, long expiresAtMillis) {
+
+        boolean isFresh(long now, long marginMillis) {
+            return now < expiresAtMillis - marginMillis;
+        }
+    }
+}
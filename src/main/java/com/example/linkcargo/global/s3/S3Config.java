@@ -4,6 +4,8 @@ import com.amazonaws.auth.AWSStaticCredentialsProvider;
 import com.amazonaws.auth.BasicAWSCredentials;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.AmazonS3ClientBuilder;
+import com.amazonaws.services.s3.transfer.TransferManager;
+import com.amazonaws.services.s3.transfer.TransferManagerBuilder;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -19,6 +21,13 @@ public class S3Config {
     @Value("${cloud.aws.region.static}")
     private String region;
 
+    // 이 크기 이상 파일은 멀티파트로 나누어 병렬 업로드 (bytes)
+    @Value("${cloud.aws.s3.multipart.threshold:16777216}")
+    private long multipartUploadThreshold;
+
+    @Value("${cloud.aws.s3.multipart.part-size:8388608}")
+    private long minimumUploadPartSize;
+
     @Bean
     public AmazonS3 amazonS3Client() {
         BasicAWSCredentials awsCreds = new BasicAWSCredentials(accessKey, secretKey);
@@ -27,4 +36,16 @@ public class S3Config {
             .withCredentials(new AWSStaticCredentialsProvider(awsCreds))
             .build();
     }
+
+    /**
+     * 스트리밍/멀티파트 업로드용 TransferManager - AmazonS3 클라이언트 공유
+     */
+    @Bean
+    public TransferManager transferManager(AmazonS3 amazonS3Client) {
+        return TransferManagerBuilder.standard()
+            .withS3Client(amazonS3Client)
+            .withMultipartUploadThreshold(multipartUploadThreshold)
+            .withMinimumUploadPartSize(minimumUploadPartSize)
+            .build();
+    }
 }
@@ -1,15 +1,17 @@
 package com.example.linkcargo.global.s3;
 
-import com.amazonaws.services.s3.AmazonS3;
-import com.amazonaws.services.s3.AmazonS3Client;
+import com.amazonaws.AmazonClientException;
 import com.amazonaws.services.s3.model.CannedAccessControlList;
 import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.transfer.TransferManager;
 import com.example.linkcargo.global.response.code.resultCode.ErrorStatus;
 import com.example.linkcargo.global.response.exception.handler.GeneralHandler;
 import com.example.linkcargo.global.s3.dto.S3Result;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InterruptedIOException;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
@@ -27,7 +29,7 @@ public class S3Service {
     @Value("${cloud.aws.s3.global-bucket.objectUrl}")
     private String fileUrl;
 
-    private final AmazonS3 amazonS3Client;
+    private final TransferManager transferManager;
 
     private String getFileExtension(String fileName) {
         try {
@@ -44,18 +46,76 @@ public class S3Service {
 
     public S3Result uploadFile(MultipartFile file) {
         String fileName = createFileName(file.getOriginalFilename());
+        String bucketPath = "Image/" + fileName;
+
+        try {
+            upload(bucket, bucketPath, file, CannedAccessControlList.PublicRead);
+        } catch (IOException e) {
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "파일 업로드에 실패했습니다.");
+        }
+
+        return new S3Result(bucketPath, fileUrl + "/" + bucketPath);
+    }
+
+    /**
+     * 서버에서 생성한 바이트 데이터 업로드 (이미지 변환본 등) - 공개 읽기
+     */
+    public S3Result uploadBytes(String key, byte[] bytes, String contentType) {
+        ObjectMetadata objectMetadata = new ObjectMetadata();
+        objectMetadata.setContentLength(bytes.length);
+        objectMetadata.setContentType(contentType);
+        transferManager.getAmazonS3Client().putObject(
+            new PutObjectRequest(bucket, key, new ByteArrayInputStream(bytes), objectMetadata)
+                .withCannedAcl(CannedAccessControlList.PublicRead));
+        return new S3Result(key, fileUrl + "/" + key);
+    }
+
+    /**
+     * uploadFile/uploadBytes 가 반환한 URL 의 객체 키 - 이 버킷의 URL 이 아니면 null
+     */
+    public String keyOf(String url) {
+        String prefix = fileUrl + "/";
+        return (url != null && url.startsWith(prefix)) ? url.substring(prefix.length()) : null;
+    }
+
+    /**
+     * 업로드된 객체 본문 스트림 - 호출 측에서 닫아야 함
+     */
+    public InputStream download(String key) {
+        return transferManager.getAmazonS3Client().getObject(bucket, key).getObjectContent();
+    }
+
+    /**
+     * uploadFile 로 업로드한 객체 삭제 - 후속 작업 실패 시 정리용
+     */
+    public void deleteFile(S3Result s3Result) {
+        transferManager.getAmazonS3Client().deleteObject(bucket, s3Result.key());
+    }
+
+    /**
+     * 업로드 스트림을 임시 파일 없이 S3 로 바로 전송
+     * Content-Length 를 지정하므로 메모리에 버퍼링하지 않으며, 임계값 이상의 파일은 멀티파트로 업로드
+     *
+     * @param acl null 이면 버킷 기본 권한
+     */
+    public void upload(String bucketName, String key, MultipartFile file,
+        CannedAccessControlList acl) throws IOException {
         ObjectMetadata objectMetadata = new ObjectMetadata();
         objectMetadata.setContentLength(file.getSize());
         objectMetadata.setContentType(file.getContentType());
 
         try (InputStream inputStream = file.getInputStream()) {
-            String bucketPath = "Image/" + fileName;
-            amazonS3Client.putObject(new PutObjectRequest(bucket, bucketPath, inputStream, objectMetadata)
-                .withCannedAcl(CannedAccessControlList.PublicRead));
-        } catch (IOException e) {
-            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "파일 업로드에 실패했습니다.");
+            PutObjectRequest putObjectRequest = new PutObjectRequest(bucketName, key, inputStream,
+                objectMetadata);
+            if (acl != null) {
+                putObjectRequest.setCannedAcl(acl);
+            }
+            transferManager.upload(putObjectRequest).waitForCompletion();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("S3 upload interrupted: " + key);
+        } catch (AmazonClientException e) {
+            throw new IOException("S3 upload failed: " + key, e);
         }
-
-        return new S3Result(fileUrl + "/Image/" + fileName);
     }
-}
\ No newline at end of file
+}
@@ -2,6 +2,6 @@ package com.example.linkcargo.global.s3.dto;
 
 
 
-public record S3Result(String fileUrl) {
+public record S3Result(String key, String fileUrl) {
 
-}
\ No newline at end of file
+}
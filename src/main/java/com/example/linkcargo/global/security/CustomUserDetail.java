@@ -1,6 +1,7 @@
 package com.example.linkcargo.global.security;
 
 
+import com.example.linkcargo.domain.user.Role;
 import com.example.linkcargo.domain.user.User;
 import java.util.Collection;
 import java.util.List;
@@ -10,31 +11,57 @@ import org.springframework.security.core.userdetails.UserDetails;
 
 public class CustomUserDetail implements UserDetails {
 
-    private final User user;
+    private final Long id;
+    private final String email;
+    private final Role role;
+    private final User user; // DB 에서 조회한 경우에만 존재 (로그인)
 
+    /**
+     * DB 에서 조회한 유저로 생성 - 로그인 시 비밀번호 검증에 사용
+     */
     public CustomUserDetail(User findUser) {
+        this.id = findUser.getId();
+        this.email = findUser.getEmail();
+        this.role = findUser.getRole();
         this.user = findUser;
     }
 
+    /**
+     * 서명된 JWT 클레임으로 생성 - DB 조회 없음
+     */
+    public CustomUserDetail(Long id, String email, Role role) {
+        this.id = id;
+        this.email = email;
+        this.role = role;
+        this.user = null;
+    }
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        return List.of(new SimpleGrantedAuthority("ROLE_" + user.getRole().name()));
+        return List.of(new SimpleGrantedAuthority("ROLE_" + role.name()));
     }
 
     @Override
     public String getPassword() {
-        return user.getPassword();
+        return user == null ? null : user.getPassword();
     }
 
     @Override
     public String getUsername() {
-        return user.getEmail();
+        return email;
     }
 
     public Long getId() {
-        return user.getId();
+        return id;
+    }
+
+    public Role getRole() {
+        return role;
     }
 
+    /**
+     * JWT 클레임으로 인증된 경우 null - 엔티티가 필요하면 UserService 로 조회
+     */
     public User getUser() {
         return user;
     }
@@ -42,8 +69,10 @@ public class CustomUserDetail implements UserDetails {
     @Override
     public String toString() {
         return "CustomUserDetail{" +
-               "user=" + user +
+               "id=" + id +
+               ", email='" + email + '\'' +
+               ", role=" + role +
                '}';
     }
 
-}
\ No newline at end of file
+}
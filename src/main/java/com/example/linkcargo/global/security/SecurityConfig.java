@@ -1,15 +1,22 @@
 package com.example.linkcargo.global.security;
 
 import com.example.linkcargo.global.jwt.JwtAuthorizationFilter;
+import com.example.linkcargo.global.jwt.JwtExcludePathMatcher;
 import com.example.linkcargo.global.jwt.JwtProvider;
 import com.example.linkcargo.global.jwt.JwtValidator;
+import com.example.linkcargo.global.ratelimit.RateLimitFilter;
+import com.example.linkcargo.global.ratelimit.RateLimiter;
 import com.example.linkcargo.global.resolver.ExceptionHandlerFilter;
+import com.example.linkcargo.global.response.ErrorResponseWriter;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
@@ -20,10 +27,23 @@ public class SecurityConfig {
 
     private final JwtProvider jwtProvider;
     private final JwtValidator jwtValidator;
+    private final JwtExcludePathMatcher jwtExcludePathMatcher;
+    private final ErrorResponseWriter errorResponseWriter;
+    private final RateLimiter rateLimiter;
 
+    // BCrypt 강도 (2^n 회) - 올리면 다음 로그인 시 기존 해시가 새 강도로 재해시됨
+    @Value("${security.password.bcrypt-strength:10}")
+    private int bcryptStrength;
+
+    /**
+     * "{bcrypt}..." 형식으로 저장, 접두사 없는 기존 해시는 BCrypt 로 검증 후 로그인 시 재해시
+     */
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        DelegatingPasswordEncoder passwordEncoder = new DelegatingPasswordEncoder("bcrypt",
+            Map.of("bcrypt", new BCryptPasswordEncoder(bcryptStrength)));
+        passwordEncoder.setDefaultPasswordEncoderForMatches(new BCryptPasswordEncoder());
+        return passwordEncoder;
     }
 
     @Bean
@@ -33,10 +53,15 @@ public class SecurityConfig {
             .authorizeHttpRequests(auth -> auth.anyRequest().permitAll())
             .csrf(AbstractHttpConfigurer::disable)
             // jwt filter
-            .addFilterBefore(new JwtAuthorizationFilter(jwtProvider, jwtValidator),
+            .addFilterBefore(
+                new JwtAuthorizationFilter(jwtProvider, jwtValidator, jwtExcludePathMatcher),
                 UsernamePasswordAuthenticationFilter.class)
+            // rate limit filter (after jwt - user id if authenticated, otherwise ip)
+            .addFilterAfter(new RateLimitFilter(rateLimiter, errorResponseWriter),
+                JwtAuthorizationFilter.class)
             // jwt exception handler filter
-            .addFilterBefore(new ExceptionHandlerFilter(), JwtAuthorizationFilter.class);
+            .addFilterBefore(new ExceptionHandlerFilter(errorResponseWriter),
+                JwtAuthorizationFilter.class);
 
         return http.build();
     }
@@ -0,0 +1,18 @@
+-- attachments.chat_room_id 추가 (채팅방 파일 목록 인덱스)
+-- 마이그레이션 도구가 없으므로 이 버전 배포 전에 ALTER 권한이 있는 계정으로 한 번 실행
+-- 기존 행은 모두 메시지(chat_id)가 있으므로 메시지의 채팅방으로 채운 뒤 NOT NULL 로 변경
+
+ALTER TABLE attachments ADD COLUMN chat_room_id BIGINT NULL;
+
+UPDATE attachments a
+JOIN chats c ON c.id = a.chat_id
+SET a.chat_room_id = c.chat_room_id
+WHERE a.chat_room_id IS NULL;
+
+-- 0 이 아니면 아래 변경이 실패함 - 해당 행 확인 후 진행
+SELECT COUNT(*) AS unresolved FROM attachments WHERE chat_room_id IS NULL;
+
+ALTER TABLE attachments
+    MODIFY chat_room_id BIGINT NOT NULL,
+    ADD CONSTRAINT fk_attachments_chat_room_id FOREIGN KEY (chat_room_id) REFERENCES chat_rooms (id),
+    ADD INDEX idx_attachments_chat_room_id_id (chat_room_id, id);
@@ -0,0 +1,4 @@
+-- attachments.chat_id NULL 허용 (메시지 없이 업로드만 된 첨부파일)
+-- update 모드는 기존 NOT NULL 제약을 완화하지 않으므로 이 버전 배포 전에 ALTER 권한이 있는 계정으로 한 번 실행
+
+ALTER TABLE attachments MODIFY chat_id BIGINT NULL;
@@ -0,0 +1,176 @@
+package com.example.linkcargo.domain.chat;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.linkcargo.domain.chat.Entity.Chat;
+import com.example.linkcargo.domain.chat.dto.request.ChatFileConfirmRequest;
+import com.example.linkcargo.domain.chat.dto.request.ChatFileUploadUrlRequest;
+import com.example.linkcargo.domain.chat.dto.request.ChatRequest.MessageType;
+import com.example.linkcargo.domain.chat.dto.response.ChatContentResponse;
+import com.example.linkcargo.domain.chat.dto.response.ChatFileUploadUrlResponse;
+import com.example.linkcargo.domain.chat.repository.AttachmentRepository;
+import com.example.linkcargo.domain.user.UserRepository;
+import com.example.linkcargo.domain.user.UserS3Service;
+import com.example.linkcargo.global.response.code.resultCode.ErrorStatus;
+import com.example.linkcargo.global.response.exception.handler.ChatHandler;
+import com.example.linkcargo.global.s3.PresignedUrlCache;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * 컨텍스트 없이 실행 - 실제 UserS3Service/PresignedUrlCache 를 메모리 S3 위에서 사용
+ * DB 쪽(ChatService, AttachmentRepository)은 file_path 유니크 제약을 흉내내는 mock
+ */
+class ChatFileServiceTest {
+
+    private static final String BUCKET = "linkcargo-chatroom";
+    private static final Long CHAT_ROOM_ID = 7L;
+    private static final Long USER_ID = 1L;
+
+    private final FakeAmazonS3 amazonS3 = new FakeAmazonS3();
+    private final ChatService chatService = mock(ChatService.class);
+    private final AttachmentRepository attachmentRepository = mock(AttachmentRepository.class);
+    private final SimpMessagingTemplate messagingTemplate = mock(SimpMessagingTemplate.class);
+    private final Set<String> savedFilePaths = ConcurrentHashMap.newKeySet();
+
+    private ChatFileService chatFileService;
+
+    @BeforeEach
+    void setUp() {
+        PresignedUrlCache presignedUrlCache = new PresignedUrlCache(amazonS3);
+        ReflectionTestUtils.setField(presignedUrlCache, "ttlSeconds", 3600L);
+        ReflectionTestUtils.setField(presignedUrlCache, "refreshMarginSeconds", 300L);
+        ReflectionTestUtils.setField(presignedUrlCache, "maxEntries", 10000);
+        UserS3Service userS3Service = new UserS3Service(amazonS3, mock(UserRepository.class),
+            presignedUrlCache, null);
+        ReflectionTestUtils.setField(userS3Service, "chatroomBucketName", BUCKET);
+
+        when(chatService.isUserInChatRoom(USER_ID, CHAT_ROOM_ID)).thenReturn(true);
+        when(attachmentRepository.existsByFilePath(anyString()))
+            .thenAnswer(invocation -> savedFilePaths.contains(invocation.<String>getArgument(0)));
+        when(chatService.saveFileChat(anyLong(), anyLong(), anyString(), anyString(), any()))
+            .thenAnswer(invocation -> {
+                // uk_attachments_file_path
+                if (!savedFilePaths.add(invocation.getArgument(3))) {
+                    throw new DataIntegrityViolationException(
+                        "Duplicate entry for key 'attachments.uk_attachments_file_path'");
+                }
+                return Chat.builder().id((long) savedFilePaths.size()).build();
+            });
+
+        chatFileService = new ChatFileService(chatService, userS3Service, attachmentRepository,
+            messagingTemplate);
+    }
+
+    @Test
+    void issuesPresignedPutUrlUnderChatRoomPrefix() {
+        ChatFileUploadUrlResponse response = chatFileService.createUploadUrl(CHAT_ROOM_ID, USER_ID,
+            new ChatFileUploadUrlRequest("../../invoice.pdf", "application/pdf"));
+
+        assertTrue(response.key().startsWith(CHAT_ROOM_ID + "/"));
+        assertTrue(response.key().endsWith("/invoice.pdf"));
+        assertTrue(response.uploadUrl().startsWith("https://" + BUCKET + ".s3."));
+        assertTrue(response.uploadUrl().contains("X-Amz-Method=PUT"));
+    }
+
+    @Test
+    void rejectsPresignForNonMember() {
+        ChatHandler e = assertThrows(ChatHandler.class, () -> chatFileService.createUploadUrl(
+            CHAT_ROOM_ID, 2L, new ChatFileUploadUrlRequest("invoice.pdf", null)));
+
+        assertEquals(ErrorStatus.CHAT_ROOM_ACCESS_DENIED, e.getCode());
+    }
+
+    @Test
+    void confirmsUploadedFileAndBroadcastsFileMessage() {
+        String key = presignAndUpload("invoice.pdf");
+
+        ChatContentResponse response = chatFileService.confirmUpload(CHAT_ROOM_ID, USER_ID,
+            new ChatFileConfirmRequest(key, "invoice.pdf"));
+
+        assertEquals(MessageType.FILE, response.messageType());
+        assertTrue(response.fileUrl().contains(key));
+        assertTrue(response.fileUrl().contains("X-Amz-Method=GET"));
+        verify(chatService).saveFileChat(CHAT_ROOM_ID, USER_ID, "invoice.pdf", key,
+            "application/pdf");
+        verify(chatService).updateChatRoomMessageUpdatedTime(CHAT_ROOM_ID);
+        verify(messagingTemplate).convertAndSend("/sub/chatroom/" + CHAT_ROOM_ID, response);
+    }
+
+    @Test
+    void rejectsConfirmBeforeUpload() {
+        ChatFileUploadUrlResponse upload = chatFileService.createUploadUrl(CHAT_ROOM_ID, USER_ID,
+            new ChatFileUploadUrlRequest("invoice.pdf", "application/pdf"));
+
+        ChatHandler e = assertThrows(ChatHandler.class, () -> chatFileService.confirmUpload(
+            CHAT_ROOM_ID, USER_ID, new ChatFileConfirmRequest(upload.key(), "invoice.pdf")));
+
+        assertEquals(ErrorStatus.CHAT_FILE_NOT_FOUND, e.getCode());
+        verify(chatService, never()).saveFileChat(anyLong(), anyLong(), anyString(), anyString(),
+            any());
+    }
+
+    @Test
+    void rejectsKeyIssuedForAnotherChatRoom() {
+        amazonS3.upload(BUCKET, "8/uuid/invoice.pdf", "application/pdf");
+
+        ChatHandler e = assertThrows(ChatHandler.class, () -> chatFileService.confirmUpload(
+            CHAT_ROOM_ID, USER_ID, new ChatFileConfirmRequest("8/uuid/invoice.pdf", "invoice.pdf")));
+
+        assertEquals(ErrorStatus.CHAT_FILE_NOT_FOUND, e.getCode());
+    }
+
+    @Test
+    void rejectsRepeatedConfirmWithoutSecondMessage() {
+        String key = presignAndUpload("invoice.pdf");
+        ChatFileConfirmRequest request = new ChatFileConfirmRequest(key, "invoice.pdf");
+        chatFileService.confirmUpload(CHAT_ROOM_ID, USER_ID, request);
+
+        ChatHandler e = assertThrows(ChatHandler.class,
+            () -> chatFileService.confirmUpload(CHAT_ROOM_ID, USER_ID, request));
+
+        assertEquals(ErrorStatus.CHAT_FILE_ALREADY_CONFIRMED, e.getCode());
+        verify(chatService, times(1)).saveFileChat(anyLong(), anyLong(), anyString(), anyString(),
+            any());
+        verify(messagingTemplate, times(1)).convertAndSend(anyString(), any(Object.class));
+    }
+
+    @Test
+    void mapsUniqueFilePathConflictToAlreadyConfirmed() {
+        String key = presignAndUpload("invoice.pdf");
+        // 동시에 들어온 재시도 - 존재 확인은 통과했지만 다른 요청이 먼저 저장
+        savedFilePaths.add(key);
+        when(attachmentRepository.existsByFilePath(key)).thenReturn(false);
+
+        ChatHandler e = assertThrows(ChatHandler.class, () -> chatFileService.confirmUpload(
+            CHAT_ROOM_ID, USER_ID, new ChatFileConfirmRequest(key, "invoice.pdf")));
+
+        assertEquals(ErrorStatus.CHAT_FILE_ALREADY_CONFIRMED, e.getCode());
+        verify(chatService, never()).updateChatRoomMessageUpdatedTime(eq(CHAT_ROOM_ID));
+        verify(messagingTemplate, never()).convertAndSend(anyString(), any(Object.class));
+    }
+
+    // 클라이언트 흐름: URL 발급 -> S3 직접 업로드
+    private String presignAndUpload(String fileName) {
+        ChatFileUploadUrlResponse upload = chatFileService.createUploadUrl(CHAT_ROOM_ID, USER_ID,
+            new ChatFileUploadUrlRequest(fileName, "application/pdf"));
+        amazonS3.upload(BUCKET, upload.key(), "application/pdf");
+        return upload.key();
+    }
+}
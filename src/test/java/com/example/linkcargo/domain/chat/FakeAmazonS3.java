@@ -0,0 +1,47 @@
+package com.example.linkcargo.domain.chat;
+
+import com.amazonaws.services.s3.AbstractAmazonS3;
+import com.amazonaws.services.s3.model.AmazonS3Exception;
+import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 메모리 S3 - presigned URL 발급과 HEAD(메타데이터 조회)만 지원
+ * 클라이언트의 직접 업로드는 upload 로 흉내냄
+ */
+class FakeAmazonS3 extends AbstractAmazonS3 {
+
+    private final Map<String, ObjectMetadata> objects = new ConcurrentHashMap<>();
+
+    void upload(String bucket, String key, String contentType) {
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentType(contentType);
+        objects.put(bucket + "/" + key, metadata);
+    }
+
+    @Override
+    public URL generatePresignedUrl(GeneratePresignedUrlRequest request) {
+        try {
+            return new URL("https://" + request.getBucketName() + ".s3.ap-northeast-2.amazonaws.com/"
+                + request.getKey() + "?X-Amz-Method=" + request.getMethod()
+                + "&X-Amz-Expires=" + request.getExpiration().getTime());
+        } catch (MalformedURLException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    @Override
+    public ObjectMetadata getObjectMetadata(String bucketName, String key) {
+        ObjectMetadata metadata = objects.get(bucketName + "/" + key);
+        if (metadata == null) {
+            AmazonS3Exception notFound = new AmazonS3Exception("Not Found");
+            notFound.setStatusCode(404);
+            throw notFound;
+        }
+        return metadata;
+    }
+}
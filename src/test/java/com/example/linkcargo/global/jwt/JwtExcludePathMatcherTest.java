@@ -0,0 +1,64 @@
+package com.example.linkcargo.global.jwt;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class JwtExcludePathMatcherTest {
+
+    private final JwtExcludePathMatcher matcher = new JwtExcludePathMatcher(
+        JwtExcludePathMatcher.DEFAULT_EXCLUDE_PATHS);
+
+    @ParameterizedTest(name = "{0} -> public: {1}")
+    @CsvSource({
+        // 인증 없이 접근 가능
+        "/api/v1/users/register, true",
+        "/api/v1/users/login, true",
+        "/api/v1/users/refresh, true",
+        "/api/v1/ports, true",
+        "/api/v1/ports/1, true",
+        "/api/v1/cargos/calculate, true",
+        "/api/v1/schedules/list, true",
+        "/api/swagger-ui/index.html, true",
+        "/api/v3/api-docs/swagger-config, true",
+        "/api/swagger-resources, true",
+        "/api/swagger-ui.html, true",
+        "/api/webjars/swagger-ui/index.css, true",
+        "/swagger-ui/index.html, true",
+        "/swagger-ui.html, true",
+        "/swagger-resources/configuration/ui, true",
+        "/v3/api-docs, true",
+        "/v1/users/register, true",
+        "/ws/chat, true",
+        "/ws/chat/info, true",
+        // 인증 필요
+        "/api/v1/users, false",
+        "/api/v1/users/logout, false",
+        "/api/v1/notifications, false",
+        "/api/v1/cargos, false",
+        "/api/v1/schedules/1, false",
+        "/api/v1/chat/1/file, false",
+        "/api, false",
+        "/, false",
+        "'', false",
+        "swagger-ui.html, false",
+    })
+    void matches(String path, boolean expected) {
+        assertEquals(expected, matcher.matches(path));
+    }
+
+    @Test
+    void nullPathIsNotPublic() {
+        assertEquals(false, matcher.matches(null));
+    }
+
+    @Test
+    void rejectsRelativePrefix() {
+        assertThrows(IllegalArgumentException.class,
+            () -> new JwtExcludePathMatcher(List.of("swagger-ui.html")));
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.linkcargo.global.jwt;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.linkcargo.global.jwt.JwtKeyRing.JwtSigningKey;
+import com.example.linkcargo.global.jwt.JwtKeyRing.KeySnapshot;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.io.Encoders;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import javax.crypto.SecretKey;
+import org.junit.jupiter.api.Test;
+
+class JwtKeyRingTest {
+
+    private static final Instant NOW = Instant.parse("2026-06-01T00:00:00Z");
+    private static final Duration RETIRE_AFTER = Duration.ofDays(8);
+
+    @Test
+    void signsWithLatestActiveKeyAndVerifiesWithFutureKey() {
+        JwtSigningKey active = key("k1", NOW.minus(Duration.ofDays(30)));
+        JwtSigningKey future = key("k2", NOW.plus(Duration.ofHours(1)));
+
+        KeySnapshot snapshot = KeySnapshot.of(List.of(future, active), NOW, RETIRE_AFTER);
+
+        assertEquals("k1", snapshot.current().kid());
+        // 활성화 전 키도 검증에는 포함 - 먼저 교체된 노드가 발급한 토큰 허용
+        assertTrue(snapshot.verificationKeys().containsKey("k2"));
+    }
+
+    @Test
+    void usesEarliestKeyWhenNoKeyIsActiveYet() {
+        JwtSigningKey first = key("k1", NOW.plus(Duration.ofHours(1)));
+        JwtSigningKey second = key("k2", NOW.plus(Duration.ofHours(2)));
+
+        KeySnapshot snapshot = KeySnapshot.of(List.of(second, first), NOW, RETIRE_AFTER);
+
+        assertEquals("k1", snapshot.current().kid());
+    }
+
+    @Test
+    void retiresPreviousKeyOnlyAfterRetireAfter() {
+        JwtSigningKey old = key("k1", NOW.minus(Duration.ofDays(30)));
+        JwtSigningKey recent = key("k2", NOW.minus(RETIRE_AFTER).plus(Duration.ofMinutes(1)));
+
+        KeySnapshot beforeRetire = KeySnapshot.of(List.of(old, recent), NOW, RETIRE_AFTER);
+        KeySnapshot afterRetire = KeySnapshot.of(List.of(old, recent),
+            NOW.plus(Duration.ofMinutes(2)), RETIRE_AFTER);
+
+        assertEquals("k2", beforeRetire.current().kid());
+        assertTrue(beforeRetire.verificationKeys().containsKey("k1"));
+        assertEquals("k2", afterRetire.current().kid());
+        assertFalse(afterRetire.verificationKeys().containsKey("k1"));
+    }
+
+    @Test
+    void rejectsTokenWithUnknownKid() {
+        JwtKeyRing keyRing = keyRing("k1:" + secret() + "@2020-01-01T00:00:00Z");
+        JwtParser parser = Jwts.parser().keyLocator(keyRing).build();
+
+        String token = Jwts.builder()
+            .header().keyId("unknown").and()
+            .subject("1")
+            .signWith(Jwts.SIG.HS256.key().build())
+            .compact();
+
+        assertThrows(SignatureException.class, () -> parser.parseSignedClaims(token));
+    }
+
+    @Test
+    void rejectsTokenSignedWithRetiredKey() {
+        String retiredSecret = secret();
+        // k1 은 k2 활성화(2020-02-01) 후 1시간이 지나 검증 키에서 제외됨
+        JwtKeyRing keyRing = new JwtKeyRing(
+            "k1:" + retiredSecret + "@2020-01-01T00:00:00Z,k2:" + secret() + "@2020-02-01T00:00:00Z",
+            "", "", Duration.ofHours(1).toSeconds());
+        JwtParser parser = Jwts.parser().keyLocator(keyRing).build();
+
+        String token = Jwts.builder()
+            .header().keyId("k1").and()
+            .subject("1")
+            .signWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(retiredSecret)))
+            .compact();
+
+        assertEquals("k2", keyRing.current().kid());
+        assertThrows(SignatureException.class, () -> parser.parseSignedClaims(token));
+    }
+
+    @Test
+    void verifiesTokenSignedWithCurrentKey() {
+        JwtKeyRing keyRing = keyRing("k1:" + secret() + "@2020-01-01T00:00:00Z");
+        JwtParser parser = Jwts.parser().keyLocator(keyRing).build();
+
+        String token = Jwts.builder()
+            .header().keyId(keyRing.current().kid()).and()
+            .subject("1")
+            .signWith(keyRing.current().secretKey())
+            .compact();
+
+        assertEquals("1", parser.parseSignedClaims(token).getPayload().getSubject());
+    }
+
+    private static JwtKeyRing keyRing(String configuredKeys) {
+        return new JwtKeyRing(configuredKeys, "", "", RETIRE_AFTER.toSeconds());
+    }
+
+    private static JwtSigningKey key(String kid, Instant activatesAt) {
+        return new JwtSigningKey(kid, Jwts.SIG.HS256.key().build(), activatesAt);
+    }
+
+    private static String secret() {
+        SecretKey key = Jwts.SIG.HS256.key().build();
+        return Encoders.BASE64.encode(key.getEncoded());
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.linkcargo.global.jwt;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.example.linkcargo.domain.user.Role;
+import com.example.linkcargo.global.response.exception.handler.JwtHandler;
+import com.example.linkcargo.global.security.CustomUserDetail;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import java.util.Date;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.Authentication;
+
+/**
+ * 컨텍스트 없이 실행 - 발급한 토큰을 다시 파싱해 클레임이 그대로 복원되는지 확인
+ */
+class JwtProviderTest {
+
+    private final JwtProvider jwtProvider = new JwtProvider(
+        new JwtKeyRing("", "", "", 691200));
+
+    @Test
+    void parsesAccessTokenClaims() {
+        String accessToken = jwtProvider.generateAccessToken(1L, "user@linkcargo.com",
+            Role.CONSIGNOR);
+
+        JwtClaims claims = jwtProvider.parseAccess(accessToken);
+
+        assertEquals(1L, claims.userId());
+        assertEquals("user@linkcargo.com", claims.email());
+        assertEquals(Role.CONSIGNOR, claims.role());
+        assertNotNull(claims.expiration());
+    }
+
+    @Test
+    void parsesRefreshTokenClaimsWithoutRole() {
+        String refreshToken = jwtProvider.generateRefreshToken(2L, "user@linkcargo.com");
+
+        JwtClaims claims = jwtProvider.parseRefresh(refreshToken);
+
+        assertEquals(2L, claims.userId());
+        assertEquals("user@linkcargo.com", claims.email());
+        assertNull(claims.role());
+    }
+
+    @Test
+    void issuesDistinctRefreshTokensInSameInstant() {
+        assertNotEquals(jwtProvider.generateRefreshToken(2L, "user@linkcargo.com"),
+            jwtProvider.generateRefreshToken(2L, "user@linkcargo.com"));
+    }
+
+    @Test
+    void rejectsRefreshTokenUsedAsAccessToken() {
+        String refreshToken = jwtProvider.generateRefreshToken(2L, "user@linkcargo.com");
+
+        assertThrows(JwtHandler.class, () -> jwtProvider.parseAccess(refreshToken));
+    }
+
+    @Test
+    void rejectsAccessTokenUsedAsRefreshToken() {
+        String accessToken = jwtProvider.generateAccessToken(1L, "user@linkcargo.com",
+            Role.CONSIGNOR);
+
+        assertThrows(JwtHandler.class, () -> jwtProvider.parseRefresh(accessToken));
+    }
+
+    @Test
+    void rejectsTokenFromAnotherKeyRing() {
+        JwtProvider otherProvider = new JwtProvider(new JwtKeyRing("", "", "", 691200));
+        String accessToken = otherProvider.generateAccessToken(1L, "user@linkcargo.com",
+            Role.CONSIGNOR);
+
+        assertThrows(JwtHandler.class, () -> jwtProvider.parseAccess(accessToken));
+    }
+
+    @Test
+    void buildsAuthenticationFromClaimsWithoutDatabase() {
+        JwtClaims claims = jwtProvider.parseAccess(
+            jwtProvider.generateAccessToken(1L, "user@linkcargo.com", Role.FORWARDER));
+
+        Authentication authentication = jwtProvider.getAuthentication(claims);
+
+        CustomUserDetail principal = (CustomUserDetail) authentication.getPrincipal();
+        assertEquals(1L, principal.getId());
+        assertEquals("user@linkcargo.com", principal.getUsername());
+        assertEquals("ROLE_FORWARDER",
+            authentication.getAuthorities().iterator().next().getAuthority());
+        assertNull(principal.getUser());
+    }
+
+    @Test
+    void rejectsAuthenticationWithoutRole() {
+        JwtClaims claims = new JwtClaims(1L, "user@linkcargo.com", null, new Date());
+
+        assertThrows(JwtHandler.class, () -> jwtProvider.getAuthentication(claims));
+    }
+
+    @Test
+    void mapsRawClaims() {
+        Date expiration = new Date(1_800_000_000_000L);
+        Claims raw = Jwts.claims()
+            .add("id", 3) // JSON 숫자는 크기에 따라 Integer 로 역직렬화됨
+            .add("email", "user@linkcargo.com")
+            .add("role", "OTHER")
+            .expiration(expiration)
+            .build();
+
+        JwtClaims claims = JwtClaims.from(raw);
+
+        assertEquals(new JwtClaims(3L, "user@linkcargo.com", Role.OTHER, expiration), claims);
+    }
+
+    @Test
+    void mapsMissingClaimsToNull() {
+        JwtClaims claims = JwtClaims.from(Jwts.claims().build());
+
+        assertEquals(new JwtClaims(null, null, null, null), claims);
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.linkcargo.global.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.linkcargo.global.ratelimit.InMemoryRateLimitStore.Bucket;
+import com.example.linkcargo.global.ratelimit.RateLimitStore.ConsumeResult;
+import org.junit.jupiter.api.Test;
+
+class InMemoryRateLimitStoreTest {
+
+    private static final long SECOND = 1_000_000_000L;
+    private static final long T0 = 42 * SECOND;
+
+    // 연속 3회, 이후 초당 1회
+    private static final RateLimitPolicy POLICY =
+        new RateLimitPolicy("test", "/api/v1/test", 3, 1);
+
+    @Test
+    void allowsBurstUpToCapacity() {
+        Bucket bucket = new Bucket(POLICY, 1, T0);
+
+        assertTrue(bucket.tryConsume(T0).allowed());
+        assertTrue(bucket.tryConsume(T0).allowed());
+        assertTrue(bucket.tryConsume(T0).allowed());
+        assertFalse(bucket.tryConsume(T0).allowed());
+    }
+
+    @Test
+    void reportsTimeUntilNextTokenAsRetryAfter() {
+        Bucket bucket = drained(T0);
+
+        assertEquals(SECOND, bucket.tryConsume(T0).retryAfterNanos());
+        assertEquals(SECOND / 4, bucket.tryConsume(T0 + SECOND * 3 / 4).retryAfterNanos());
+    }
+
+    @Test
+    void refillsOneTokenPerEmissionInterval() {
+        Bucket bucket = drained(T0);
+
+        ConsumeResult refilled = bucket.tryConsume(T0 + SECOND);
+        ConsumeResult next = bucket.tryConsume(T0 + SECOND);
+
+        assertTrue(refilled.allowed());
+        assertFalse(next.allowed());
+        assertEquals(SECOND, next.retryAfterNanos());
+    }
+
+    @Test
+    void doesNotRefillBeyondCapacity() {
+        Bucket bucket = drained(T0);
+        long later = T0 + 60 * SECOND;
+
+        assertTrue(bucket.isFull(later));
+        assertTrue(bucket.tryConsume(later).allowed());
+        assertTrue(bucket.tryConsume(later).allowed());
+        assertTrue(bucket.tryConsume(later).allowed());
+        assertFalse(bucket.tryConsume(later).allowed());
+    }
+
+    @Test
+    void scalesCapacityAndRefillWithMultiplier() {
+        Bucket bucket = new Bucket(POLICY, 10, T0);
+
+        for (int i = 0; i < 30; i++) {
+            assertTrue(bucket.tryConsume(T0).allowed());
+        }
+        assertEquals(SECOND / 10, bucket.tryConsume(T0).retryAfterNanos());
+        assertTrue(bucket.tryConsume(T0 + SECOND / 10).allowed());
+    }
+
+    @Test
+    void groupsIpv4ClientsBySlash24() {
+        assertEquals("test:ip:203.0.113.0/24",
+            InMemoryRateLimitStore.overflowKey(POLICY, "test:ip:203.0.113.7"));
+        assertEquals("test:ip:203.0.113.0/24",
+            InMemoryRateLimitStore.overflowKey(POLICY, "test:ip:203.0.113.250"));
+    }
+
+    @Test
+    void groupsIpv6ClientsBySlash64() {
+        assertEquals("test:ip:2001:db8:0:1::/64",
+            InMemoryRateLimitStore.overflowKey(POLICY, "test:ip:2001:db8:0:1::abcd"));
+        assertEquals("test:ip:2001:db8:0:1::/64",
+            InMemoryRateLimitStore.overflowKey(POLICY, "test:ip:2001:db8:0:1:ffff:0:0:1"));
+    }
+
+    @Test
+    void sharesPolicyBucketForNonIpClients() {
+        assertEquals("test", InMemoryRateLimitStore.overflowKey(POLICY, "test:user:1"));
+    }
+
+    private static Bucket drained(long now) {
+        Bucket bucket = new Bucket(POLICY, 1, now);
+        for (int i = 0; i < POLICY.capacity(); i++) {
+            bucket.tryConsume(now);
+        }
+        return bucket;
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.linkcargo.global.resolver;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.example.linkcargo.domain.user.Role;
+import com.example.linkcargo.global.jwt.JwtAuthorizationFilter;
+import com.example.linkcargo.global.jwt.JwtClaims;
+import com.example.linkcargo.global.response.exception.handler.JwtHandler;
+import java.util.Date;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+
+/**
+ * 컨텍스트/데이터소스 없이 실행 - 인자 해석 과정에서 DB 접근(SQL)이 없음을 보장
+ */
+class JwtAuthorizationArgumentResolverTest {
+
+    private final JwtAuthorizationArgumentResolver resolver = new JwtAuthorizationArgumentResolver();
+
+    @Test
+    void resolvesLoginInfoFromRequestClaims() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAttribute(JwtAuthorizationFilter.CLAIMS_ATTRIBUTE,
+            new JwtClaims(1L, "user@linkcargo.com", Role.CONSIGNOR, new Date()));
+
+        LoginInfo loginInfo = resolver.resolveArgument(null, null, new ServletWebRequest(request),
+            null);
+
+        assertEquals(new LoginInfo(1L, "user@linkcargo.com"), loginInfo);
+    }
+
+    @Test
+    void rejectsRequestWithoutVerifiedClaims() {
+        ServletWebRequest webRequest = new ServletWebRequest(new MockHttpServletRequest());
+
+        assertThrows(JwtHandler.class,
+            () -> resolver.resolveArgument(null, null, webRequest, null));
+    }
+}